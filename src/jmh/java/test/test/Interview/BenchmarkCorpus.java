@@ -0,0 +1,53 @@
+package test.test.Interview;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 벤치마크 입력 코퍼스 (src/jmh/resources/corpus)
+ * 실제 Gemini 응답 형식을 따른 프로필/질문/학습 경로 샘플
+ */
+final class BenchmarkCorpus {
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private BenchmarkCorpus() {
+    }
+
+    /**
+     * 프로필 샘플 (0: 신입, 1: 3년차, 2: 7년 이상)
+     */
+    static InterviewAnalysisRequest profile(int index) {
+        try (InputStream in = open("profiles.json")) {
+            List<InterviewAnalysisRequest> profiles = OBJECT_MAPPER.readValue(in, new TypeReference<>() {});
+            return profiles.get(index);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 텍스트 샘플 (모델 응답 원문)
+     */
+    static String text(String name) {
+        try (InputStream in = open(name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream open(String name) throws IOException {
+        InputStream in = BenchmarkCorpus.class.getResourceAsStream("/corpus/" + name);
+        if (in == null) {
+            throw new IOException("코퍼스 파일 없음: " + name);
+        }
+        return in;
+    }
+}
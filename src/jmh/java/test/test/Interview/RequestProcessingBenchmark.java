@@ -0,0 +1,73 @@
+package test.test.Interview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 요청 측 CPU 경로: 프로필 요약, 프롬프트 구성, 요청 본문(JSON) 인코딩, 기술 스킬 추출
+ */
+@State(Scope.Thread)
+public class RequestProcessingBenchmark {
+
+    /**
+     * 프로필 샘플 (0: 신입, 1: 3년차, 2: 7년 이상)
+     */
+    @Param({"0", "1", "2"})
+    public int profile;
+
+    private InterviewAnalysisRequest request;
+
+    private InterviewPromptBuilder promptBuilder;
+
+    private SkillDictionary skillDictionary;
+
+    @Setup
+    public void setUp() {
+        request = BenchmarkCorpus.profile(profile);
+        promptBuilder = new InterviewPromptBuilder(
+                new PromptTemplates(new DefaultResourceLoader(), "classpath:prompts/", Duration.ZERO));
+        skillDictionary = new SkillDictionary(new DefaultResourceLoader(), "classpath:skills/dictionary.tsv");
+    }
+
+    @Benchmark
+    public String allSkills() {
+        return request.getAllSkills();
+    }
+
+    @Benchmark
+    public String fullProfile() {
+        return request.getFullProfile();
+    }
+
+    @Benchmark
+    public GeminiPrompt interviewQuestionPrompt() {
+        return promptBuilder.buildInterviewQuestionPrompt(request);
+    }
+
+    @Benchmark
+    public GeminiPrompt learningPathPrompt() {
+        return promptBuilder.buildLearningPathPrompt(request);
+    }
+
+    @Benchmark
+    public GeminiPrompt combinedPrompt() {
+        return promptBuilder.buildCombinedPrompt(request);
+    }
+
+    @Benchmark
+    public byte[] interviewQuestionRequestBody() {
+        return promptBuilder.buildInterviewQuestionPrompt(request).toRequestBody(null);
+    }
+
+    @Benchmark
+    public List<SkillDictionary.SkillMatch> skillKeywords() {
+        return skillDictionary.extract(request);
+    }
+}
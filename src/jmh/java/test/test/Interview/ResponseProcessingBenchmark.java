@@ -0,0 +1,97 @@
+package test.test.Interview;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 응답 측 CPU 경로: 질문 추출, 학습 경로 HTML 변환, 응답 직렬화
+ * 입력별 State를 분리하여 각 벤치마크는 자신이 쓰는 샘플 조합만 실행
+ */
+public class ResponseProcessingBenchmark {
+
+    @State(Scope.Thread)
+    public static class QuestionInput {
+
+        /**
+         * 질문 응답 샘플 (numbered: 1. 형식, mixed: **1.**, 1), 질문 3:, Q4., 5번. 혼합)
+         */
+        @Param({"numbered", "mixed"})
+        public String questions;
+
+        String text;
+
+        QuestionExtractor extractor;
+
+        @Setup
+        public void setUp() {
+            text = BenchmarkCorpus.text("questions-" + questions + ".md");
+            extractor = new QuestionExtractor();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class LearningPathInput {
+
+        /**
+         * 학습 경로 응답 샘플 (basic: 헤딩/목록, rich: 중첩 목록/순서 목록/링크/강조)
+         */
+        @Param({"basic", "rich"})
+        public String learningPath;
+
+        String text;
+
+        MarkdownHtmlRenderer renderer;
+
+        @Setup
+        public void setUp() {
+            text = BenchmarkCorpus.text("learning-path-" + learningPath + ".md");
+            renderer = new MarkdownHtmlRenderer();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ResponseInput {
+
+        InterviewAnalysisResponse response;
+
+        @Setup
+        public void setUp() {
+            InterviewAnalysisRequest request = BenchmarkCorpus.profile(2);
+            response = InterviewAnalysisResponse.success(
+                    new QuestionExtractor().extract(BenchmarkCorpus.text("questions-mixed.md"), 5),
+                    new MarkdownHtmlRenderer().render(BenchmarkCorpus.text("learning-path-rich.md")),
+                    InterviewAnalysisResponse.AnalysisMetadata.builder()
+                            .processingTimeMs(8421L)
+                            .questionGenerationTimeMs(6120L)
+                            .learningPathGenerationTimeMs(8390L)
+                            .degraded(false)
+                            .aiModel("Google Gemini 2.5 Flash")
+                            .qualityScore(10)
+                            .analysisTimestamp("2025-01-01T12:00:00")
+                            .priority("high")
+                            .extractedKeywords(List.of(request.getBack().split(", ")))
+                            .build());
+        }
+    }
+
+    @Benchmark
+    public List<String> parseInterviewQuestions(QuestionInput input) {
+        return input.extractor.extract(input.text, 5);
+    }
+
+    @Benchmark
+    public String formatLearningPathAsHTML(LearningPathInput input) {
+        return input.renderer.render(input.text);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse(ResponseInput input) throws JsonProcessingException {
+        return BenchmarkCorpus.OBJECT_MAPPER.writeValueAsBytes(input.response);
+    }
+}
@@ -0,0 +1,201 @@
+package test.test.Interview;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 면접 분석 API 부하 생성기
+ * 목표 RPS로 요청을 일정 간격(개방형 부하)으로 보내고 처리량, 지연 백분위, 상태 코드, 대체(degraded) 비율을 출력
+ * 지연은 예정된 전송 시각 기준으로 측정하므로 서버가 밀려 전송이 늦어진 시간도 포함됨 (coordinated omission 방지)
+ *
+ * <pre>
+ * gradle loadTest -PloadArgs="--url=http://localhost:8080/api/interview/analyze --rps=20 --duration=60s --warmup=10s"
+ * </pre>
+ */
+public final class LoadGenerator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    public static void main(String[] args) throws Exception {
+        LoadTestArgs parsed = new LoadTestArgs(args);
+        URI url = URI.create(parsed.string("url", "http://localhost:8080/api/interview/analyze"));
+        double rps = parsed.decimal("rps", 10);
+        Duration duration = parsed.duration("duration", Duration.ofSeconds(60));
+        Duration warmup = parsed.duration("warmup", Duration.ofSeconds(10));
+        Duration timeout = parsed.duration("timeout", Duration.ofSeconds(90));
+        int maxOutstanding = parsed.integer("max-outstanding", 2000);
+        // 같은 프로필은 결과 캐시/요청 병합으로 Gemini를 호출하지 않으므로 기본적으로 요청마다 프로필을 다르게 변형
+        boolean unique = parsed.flag("unique", true);
+
+        List<ObjectNode> profiles = profiles();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .executor(executor)
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        Stats stats = new Stats();
+        AtomicInteger outstanding = new AtomicInteger();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        System.out.printf("부하 테스트 시작: %s, 목표 %.1f req/s, 측정 %ds (워밍업 %ds 제외)%n",
+                url, rps, duration.toSeconds(), warmup.toSeconds());
+
+        long intervalNanos = (long) (1_000_000_000L / rps);
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + warmup.toNanos();
+        long endNanos = measureFromNanos + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intendedNanos = startNanos + i * intervalNanos;
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+            long sleepNanos = intendedNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(sleepNanos);
+            }
+            boolean measured = intendedNanos >= measureFromNanos;
+            if (outstanding.get() >= maxOutstanding) {
+                if (measured) {
+                    stats.dropped();
+                }
+                continue;
+            }
+
+            ObjectNode profile = profiles.get((int) (i % profiles.size())).deepCopy();
+            if (unique) {
+                profile.put("learningGoals", profile.path("learningGoals").asText("") + " (부하 테스트 #" + i + ")");
+            }
+            HttpRequest request = HttpRequest.newBuilder(url)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(profile)))
+                    .build();
+
+            outstanding.incrementAndGet();
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .handle((response, error) -> {
+                        outstanding.decrementAndGet();
+                        if (measured) {
+                            stats.record(System.nanoTime() - intendedNanos, response, error);
+                        }
+                        return null;
+                    }));
+        }
+
+        System.out.printf("전송 종료, 응답 대기 중 (%d건 진행 중)%n", outstanding.get());
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        stats.print(duration, rps);
+        executor.shutdown();
+    }
+
+    private static List<ObjectNode> profiles() throws IOException {
+        try (InputStream in = LoadGenerator.class.getResourceAsStream("/corpus/profiles.json")) {
+            if (in == null) {
+                throw new IOException("코퍼스 파일 없음: profiles.json");
+            }
+            ArrayNode array = (ArrayNode) OBJECT_MAPPER.readTree(in);
+            List<ObjectNode> profiles = new ArrayList<>();
+            array.forEach(node -> profiles.add((ObjectNode) node));
+            return profiles;
+        }
+    }
+
+    /**
+     * 측정 구간 결과 집계
+     */
+    private static final class Stats {
+
+        private final List<Long> latencies = new ArrayList<>();
+
+        private final List<Long> successLatencies = new ArrayList<>();
+
+        private final Map<String, Integer> statuses = new TreeMap<>();
+
+        private final Map<String, Integer> degradedReasons = new TreeMap<>();
+
+        private int analyzed;
+
+        private int degraded;
+
+        private int droppedCount;
+
+        synchronized void record(long latencyNanos, HttpResponse<byte[]> response, Throwable error) {
+            latencies.add(latencyNanos);
+            if (error != null) {
+                statuses.merge(error.getClass().getSimpleName(), 1, Integer::sum);
+                return;
+            }
+            statuses.merge(String.valueOf(response.statusCode()), 1, Integer::sum);
+            if (response.statusCode() != 200) {
+                return;
+            }
+            successLatencies.add(latencyNanos);
+            try {
+                JsonNode metadata = OBJECT_MAPPER.readTree(response.body()).path("metadata");
+                analyzed++;
+                if (metadata.path("degraded").asBoolean(false)) {
+                    degraded++;
+                    degradedReasons.merge(metadata.path("degradedReason").asText("UNKNOWN"), 1, Integer::sum);
+                }
+            } catch (IOException e) {
+                statuses.merge("200(잘못된 본문)", 1, Integer::sum);
+            }
+        }
+
+        synchronized void dropped() {
+            droppedCount++;
+        }
+
+        synchronized void print(Duration duration, double rps) {
+            double seconds = duration.toMillis() / 1000.0;
+            System.out.println();
+            System.out.println("=== 부하 테스트 결과 ===");
+            System.out.printf("완료 %d건 / 목표 %.0f건, 처리량 %.2f req/s (성공 %.2f req/s)%n",
+                    latencies.size(), rps * seconds, latencies.size() / seconds, successLatencies.size() / seconds);
+            System.out.printf("상태: %s, 드롭(동시 요청 한도) %d건%n", statuses, droppedCount);
+            System.out.printf("전체 지연(ms):   %s%n", percentiles(latencies));
+            System.out.printf("성공 지연(ms):   %s%n", percentiles(successLatencies));
+            System.out.printf("대체(degraded) 비율: %.1f%% (%d/%d) %s%n",
+                    analyzed == 0 ? 0 : degraded * 100.0 / analyzed, degraded, analyzed, degradedReasons);
+        }
+
+        private static String percentiles(List<Long> values) {
+            if (values.isEmpty()) {
+                return "-";
+            }
+            long[] sorted = values.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            StringBuilder line = new StringBuilder();
+            for (double p : PERCENTILES) {
+                int index = (int) Math.min(sorted.length - 1, Math.ceil(p / 100 * sorted.length) - 1);
+                line.append(String.format("p%s=%d  ", p % 1 == 0 ? String.valueOf((int) p) : String.valueOf(p), sorted[Math.max(0, index)] / 1_000_000));
+            }
+            return line.append("max=").append(sorted[sorted.length - 1] / 1_000_000).toString();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package test.test.Interview;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 Gemini 모의 서버 (부하 테스트용, 실제 할당량을 쓰지 않음)
+ * generateContent / streamGenerateContent(alt=sse)를 흉내 내며, 응답 본문은 코퍼스(src/jmh/resources/corpus)의 한국어 질문/학습 경로 샘플 사용
+ * 지연 분포(로그 정규), 429/5xx 비율, 느린 스트림을 인자로 조절
+ *
+ * <pre>
+ * gradle geminiMock -PmockArgs="--port=8090 --latency-median=1500ms --latency-p99=6s --rate-429=0.05 --rate-5xx=0.02"
+ * 앱 실행 시: --google.gemini.api.url=http://localhost:8090/v1beta/models/gemini-2.5-flash --google.gemini.api.key=mock
+ * </pre>
+ */
+public final class MockGeminiServer {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * 표준 정규 분포 99 백분위 z 값
+     */
+    private static final double Z_99 = 2.326;
+
+    private final List<String> questionTexts = List.of(corpus("questions-numbered.md"), corpus("questions-mixed.md"));
+
+    private final List<String> learningPathTexts = List.of(corpus("learning-path-basic.md"), corpus("learning-path-rich.md"));
+
+    private final double latencyMu;
+
+    private final double latencySigma;
+
+    private final double rate429;
+
+    private final double rate5xx;
+
+    private final int streamChunkChars;
+
+    private final Duration streamChunkDelay;
+
+    private final double slowStreamRate;
+
+    private final Duration slowStreamChunkDelay;
+
+    private final AtomicLong served = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private MockGeminiServer(LoadTestArgs args) {
+        Duration median = args.duration("latency-median", Duration.ofMillis(1500));
+        Duration p99 = args.duration("latency-p99", Duration.ofSeconds(6));
+        this.latencyMu = Math.log(Math.max(1, median.toMillis()));
+        this.latencySigma = Math.max(0, Math.log((double) Math.max(p99.toMillis(), median.toMillis()) / Math.max(1, median.toMillis())) / Z_99);
+        this.rate429 = args.decimal("rate-429", 0);
+        this.rate5xx = args.decimal("rate-5xx", 0);
+        this.streamChunkChars = args.integer("stream-chunk-chars", 80);
+        this.streamChunkDelay = args.duration("stream-chunk-delay", Duration.ofMillis(60));
+        this.slowStreamRate = args.decimal("slow-stream-rate", 0);
+        this.slowStreamChunkDelay = args.duration("slow-stream-chunk-delay", Duration.ofSeconds(2));
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestArgs parsed = new LoadTestArgs(args);
+        int port = parsed.integer("port", 8090);
+        MockGeminiServer mock = new MockGeminiServer(parsed);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext("/v1beta/models/", mock::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+
+        System.out.printf("Gemini 모의 서버 시작: http://localhost:%d/v1beta/models/gemini-2.5-flash%n", port);
+        System.out.printf("  지연 중앙값 %dms, p99 %dms / 429 %.1f%%, 5xx %.1f%% / 스트림 조각 %d자, 간격 %dms, 느린 스트림 %.1f%% (%dms)%n",
+                Math.round(Math.exp(mock.latencyMu)), Math.round(Math.exp(mock.latencyMu + Z_99 * mock.latencySigma)),
+                mock.rate429 * 100, mock.rate5xx * 100, mock.streamChunkChars, mock.streamChunkDelay.toMillis(),
+                mock.slowStreamRate * 100, mock.slowStreamChunkDelay.toMillis());
+        Runtime.getRuntime().addShutdownHook(new Thread(() ->
+                System.out.printf("Gemini 모의 서버 종료: 응답 %d건, 오류 주입 %d건%n", mock.served.get(), mock.failed.get())));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "METHOD_NOT_ALLOWED", "POST만 지원합니다");
+                return;
+            }
+            JsonNode request;
+            try (InputStream in = exchange.getRequestBody()) {
+                request = OBJECT_MAPPER.readTree(in);
+            }
+
+            long latencyMs = sampleLatencyMs();
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < rate429) {
+                // 실제 할당량 초과 응답은 생성 없이 빠르게 반환됨
+                sleep(latencyMs / 10);
+                failed.incrementAndGet();
+                sendError(exchange, 429, "RESOURCE_EXHAUSTED", "Resource has been exhausted (e.g. check quota).");
+                return;
+            }
+            if (roll < rate429 + rate5xx) {
+                sleep(latencyMs / 2);
+                failed.incrementAndGet();
+                boolean overloaded = ThreadLocalRandom.current().nextBoolean();
+                sendError(exchange, overloaded ? 503 : 500, overloaded ? "UNAVAILABLE" : "INTERNAL",
+                        overloaded ? "The model is overloaded. Please try again later." : "An internal error has occurred.");
+                return;
+            }
+
+            String text = responseText(request);
+            int promptTokens = promptText(request).length() / 2;
+            if (path.endsWith(":streamGenerateContent")) {
+                stream(exchange, text, promptTokens, latencyMs);
+            } else if (path.endsWith(":generateContent")) {
+                sleep(latencyMs);
+                sendJson(exchange, 200, response(text, true, promptTokens));
+            } else {
+                sendError(exchange, 404, "NOT_FOUND", "지원하지 않는 경로입니다: " + path);
+                return;
+            }
+            served.incrementAndGet();
+        } catch (IOException e) {
+            // 클라이언트가 먼저 연결을 끊은 경우 (타임아웃, 헤지 요청 취소)
+        }
+    }
+
+    /**
+     * SSE 스트리밍 응답 (첫 조각까지 지연의 1/4, 이후 조각 간격 streamChunkDelay 또는 느린 스트림 간격)
+     */
+    private void stream(HttpExchange exchange, String text, int promptTokens, long latencyMs) throws IOException {
+        Duration chunkDelay = ThreadLocalRandom.current().nextDouble() < slowStreamRate ? slowStreamChunkDelay : streamChunkDelay;
+        sleep(latencyMs / 4);
+
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        int start = 0;
+        while (start < text.length()) {
+            int end = Math.min(text.length(), start + streamChunkChars);
+            // 서로게이트 쌍(이모지 등)이 조각 경계에서 나뉘지 않도록 조정
+            if (end < text.length() && Character.isHighSurrogate(text.charAt(end - 1))) {
+                end++;
+            }
+            boolean last = end >= text.length();
+            out.write(("data: " + OBJECT_MAPPER.writeValueAsString(response(text.substring(start, end), last, promptTokens)) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            if (!last) {
+                sleep(chunkDelay.toMillis());
+            }
+            start = end;
+        }
+        out.close();
+    }
+
+    private String responseText(JsonNode request) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if ("application/json".equals(request.path("generationConfig").path("responseMimeType").asText())) {
+            // 스키마 응답은 형식이 단순한 샘플(번호 목록, 단일 수준 목록)에서 변환
+            return combinedJson(questionTexts.get(0), learningPathTexts.get(0));
+        }
+        // 면접 질문 프롬프트는 "전문 면접관", 학습 경로 프롬프트는 "커리어 컨설턴트"로 시작
+        return promptText(request).contains("면접관")
+                ? questionTexts.get(random.nextInt(questionTexts.size()))
+                : learningPathTexts.get(random.nextInt(learningPathTexts.size()));
+    }
+
+    private static String promptText(JsonNode request) {
+        return request.path("contents").path(0).path("parts").path(0).path("text").asText("");
+    }
+
+    /**
+     * 응답 스키마(COMBINED 모드)에 맞춘 JSON: 번호 줄은 질문으로, ## 헤딩과 최상위 목록은 학습 경로 섹션으로 변환
+     */
+    private static String combinedJson(String questions, String learningPath) {
+        ObjectNode root = OBJECT_MAPPER.createObjectNode();
+        ArrayNode questionArray = root.putArray("questions");
+        for (String line : questions.split("\n")) {
+            String trimmed = line.strip();
+            if (!trimmed.isEmpty() && Character.isDigit(trimmed.charAt(0)) && trimmed.indexOf('.') > 0 && trimmed.indexOf('.') < 3) {
+                questionArray.add(trimmed.substring(trimmed.indexOf('.') + 1).strip());
+            }
+        }
+        ArrayNode sections = root.putObject("learningPath").putArray("sections");
+        ArrayNode items = null;
+        for (String line : learningPath.split("\n")) {
+            if (line.startsWith("## ")) {
+                ObjectNode section = sections.addObject();
+                section.put("title", line.substring(3).strip());
+                items = section.putArray("items");
+            } else if (line.startsWith("- ") && items != null) {
+                items.add(line.substring(2).strip());
+            }
+        }
+        return root.toString();
+    }
+
+    private static ObjectNode response(String text, boolean last, int promptTokens) {
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        ObjectNode candidate = response.putArray("candidates").addObject();
+        ObjectNode content = candidate.putObject("content");
+        content.putArray("parts").addObject().put("text", text);
+        content.put("role", "model");
+        candidate.put("index", 0);
+        if (last) {
+            candidate.put("finishReason", "STOP");
+        }
+        ObjectNode usage = response.putObject("usageMetadata");
+        int candidateTokens = text.length() / 2;
+        usage.put("promptTokenCount", promptTokens);
+        usage.put("candidatesTokenCount", candidateTokens);
+        usage.put("totalTokenCount", promptTokens + candidateTokens);
+        response.put("modelVersion", "gemini-2.5-flash-mock");
+        return response;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String reason, String message) throws IOException {
+        ObjectNode body = OBJECT_MAPPER.createObjectNode();
+        ObjectNode error = body.putObject("error");
+        error.put("code", status);
+        error.put("message", message);
+        error.put("status", reason);
+        sendJson(exchange, status, body);
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = OBJECT_MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private long sampleLatencyMs() {
+        return Math.round(Math.exp(latencyMu + latencySigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String corpus(String name) {
+        try (InputStream in = MockGeminiServer.class.getResourceAsStream("/corpus/" + name)) {
+            if (in == null) {
+                throw new IOException("코퍼스 파일 없음: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
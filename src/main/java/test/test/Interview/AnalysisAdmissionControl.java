@@ -0,0 +1,200 @@
+package test.test.Interview;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동기 분석(/analyze, /analyze/stream) 진입 제어
+ * 진행 중인 분석 수와 최근 분석 소요 시간의 지수 이동 평균(EWMA)으로 새 요청의 예상 대기 시간을 계산하고,
+ * 한도를 넘으면 분석을 시작하지 않고 즉시 거절하여 (503 + Retry-After) 이미 받아들인 요청의 지연을 지킴
+ *
+ * <p>예상 대기 시간 = 평균 소요 시간 × max(0, 진행 중 + 1 - concurrency) / concurrency
+ * (동시에 concurrency개씩 처리된다고 볼 때 앞선 요청이 빠질 때까지 기다리는 시간)
+ * 평균 소요 시간은 Gemini를 실제로 호출한 분석에서만 갱신 (캐시 적중 등 즉시 끝나는 요청이 평균을 0으로 끌어내리지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisAdmissionControl {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${interview.admission.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 예상 대기 시간과 무관하게 허용하는 최대 동시 분석 수
+     */
+    @Value("${interview.admission.max-in-flight:64}")
+    private int maxInFlight;
+
+    /**
+     * 지연 증가 없이 동시에 처리할 수 있다고 보는 분석 수
+     */
+    @Value("${interview.admission.concurrency:8}")
+    private int concurrency;
+
+    /**
+     * 허용하는 최대 예상 대기 시간
+     */
+    @Value("${interview.admission.max-queue-wait:5s}")
+    private Duration maxQueueWait;
+
+    /**
+     * 새 소요 시간 표본의 가중치 (0~1, 클수록 최근 변화에 빠르게 반응)
+     */
+    @Value("${interview.admission.ewma-weight:0.2}")
+    private double ewmaWeight;
+
+    /**
+     * 표본이 쌓이기 전 사용할 분석 소요 시간 초기값
+     */
+    @Value("${interview.admission.initial-latency:10s}")
+    private Duration initialLatency;
+
+    /**
+     * 거절 응답에 안내할 최대 재시도 대기 시간
+     */
+    @Value("${interview.admission.max-retry-after:60s}")
+    private Duration maxRetryAfter;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * 분석 소요 시간 EWMA (나노초, initial-latency로 시작)
+     */
+    private double latencyEwmaNanos;
+
+    private Counter rejectedInFlight;
+
+    private Counter rejectedQueueWait;
+
+    @PostConstruct
+    void init() {
+        latencyEwmaNanos = initialLatency.toNanos();
+
+        Gauge.builder("interview.admission.in.flight", inFlight, AtomicInteger::get)
+                .description("진입 제어를 통과해 진행 중인 분석 수")
+                .register(meterRegistry);
+        Gauge.builder("interview.admission.latency.ewma", this, control -> control.latencyEwmaNanos() / 1_000_000_000d)
+                .description("최근 분석 소요 시간의 지수 이동 평균")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        rejectedInFlight = rejectedCounter("in-flight");
+        rejectedQueueWait = rejectedCounter("queue-wait");
+    }
+
+    /**
+     * 분석 시작 허가 요청
+     *
+     * @return 분석이 끝나면 반드시 release해야 하는 허가
+     * @throws AnalysisRejectedException 동시 분석 수 또는 예상 대기 시간이 한도를 넘은 경우
+     */
+    public Permit acquire() {
+        if (!enabled) {
+            return Permit.NOOP;
+        }
+
+        int current = inFlight.incrementAndGet();
+        if (current > maxInFlight) {
+            inFlight.decrementAndGet();
+            rejectedInFlight.increment();
+            throw reject("동시 분석 수 한도 초과 (" + maxInFlight + "건)", current);
+        }
+
+        long queueWaitNanos = estimatedQueueWaitNanos(current);
+        if (queueWaitNanos > maxQueueWait.toNanos()) {
+            inFlight.decrementAndGet();
+            rejectedQueueWait.increment();
+            throw reject("예상 대기 시간 " + queueWaitNanos / 1_000_000 + "ms가 한도(" + maxQueueWait.toMillis() + "ms) 초과", current);
+        }
+        return new Permit(this);
+    }
+
+    /**
+     * 작업을 허가 범위 안에서 실행 (구독 시 허가를 얻고, 완료/실패/취소 시 반납)
+     *
+     * @param work 허가가 필요한 작업 (허가를 얻은 뒤 구독)
+     * @return 허가를 얻지 못하면 AnalysisRejectedException으로 실패하는 작업
+     */
+    public <T> Mono<T> admit(Mono<T> work) {
+        return Mono.defer(() -> {
+            Permit permit = acquire();
+            return work.doFinally(signal -> permit.release());
+        });
+    }
+
+    /**
+     * Gemini를 호출한 분석의 소요 시간을 EWMA에 반영
+     *
+     * @param elapsedNanos 분석 소요 시간 (나노초)
+     */
+    public synchronized void recordLatency(long elapsedNanos) {
+        latencyEwmaNanos += ewmaWeight * (elapsedNanos - latencyEwmaNanos);
+    }
+
+    private AnalysisRejectedException reject(String reason, int current) {
+        // 지금 대기열이 모두 빠질 때까지의 예상 시간을 재시도 간격으로 안내
+        Duration retryAfter = Duration.ofNanos(Math.max(estimatedQueueWaitNanos(current), 1_000_000_000L));
+        if (retryAfter.compareTo(maxRetryAfter) > 0) {
+            retryAfter = maxRetryAfter;
+        }
+        log.warn("분석 요청 거절: {}, 진행 중 {}건, Retry-After {}s", reason, current - 1, retryAfter.toSeconds());
+        return new AnalysisRejectedException("요청이 많아 분석을 시작할 수 없습니다: " + reason, retryAfter);
+    }
+
+    private long estimatedQueueWaitNanos(int current) {
+        int ahead = current - concurrency;
+        if (ahead <= 0) {
+            return 0;
+        }
+        return (long) (latencyEwmaNanos() * ahead / concurrency);
+    }
+
+    private synchronized double latencyEwmaNanos() {
+        return latencyEwmaNanos;
+    }
+
+    private Counter rejectedCounter(String reason) {
+        return Counter.builder("interview.admission.rejected")
+                .description("진입 제어로 거절된 분석 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 분석 허가 (한 번만 반납됨)
+     */
+    public static final class Permit {
+
+        static final Permit NOOP = new Permit(null);
+
+        private final AnalysisAdmissionControl control;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(AnalysisAdmissionControl control) {
+            this.control = control;
+        }
+
+        /**
+         * 허가 반납 (doFinally에 연결)
+         */
+        public void release() {
+            if (control != null && released.compareAndSet(false, true)) {
+                control.inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package test.test.Interview;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 분석 작업 (AnalysisJobService 내부 상태)
+ * 상태 변경은 접수 스레드 → 큐 → 작업자 스레드 순서로 한 번에 한 스레드에서만 일어나며, 변경될 때마다 스냅샷을 구독자에게 전달
+ */
+final class AnalysisJob {
+
+    private final String id;
+
+    private final InterviewAnalysisRequest request;
+
+    private final AnalysisPriority priority;
+
+    /**
+     * 접수 순번 (가상 마감 시각이 같을 때 먼저 들어온 작업 우선)
+     */
+    private final long sequence;
+
+    /**
+     * 우선순위 큐 정렬 기준 (접수 시각 + 우선순위 단계 × aging-step)
+     */
+    private final long virtualDeadlineNanos;
+
+    private final long submittedNanos;
+
+    private final Instant submittedAt = Instant.now();
+
+    /**
+     * 마지막 스냅샷만 보관하므로 늦게 구독해도 현재 상태부터 받음
+     */
+    private final Sinks.Many<AnalysisJobResponse> updates = Sinks.many().replay().latest();
+
+    private volatile AnalysisJobStatus status = AnalysisJobStatus.QUEUED;
+
+    private volatile long startedNanos;
+
+    private volatile long completedNanos;
+
+    private volatile InterviewAnalysisResponse result;
+
+    private volatile String errorMessage;
+
+    AnalysisJob(String id, InterviewAnalysisRequest request, AnalysisPriority priority, long sequence, long agingStepNanos) {
+        this.id = id;
+        this.request = request;
+        this.priority = priority;
+        this.sequence = sequence;
+        this.submittedNanos = System.nanoTime();
+        this.virtualDeadlineNanos = submittedNanos + priority.ordinal() * agingStepNanos;
+        updates.tryEmitNext(snapshot());
+    }
+
+    String id() {
+        return id;
+    }
+
+    InterviewAnalysisRequest request() {
+        return request;
+    }
+
+    AnalysisPriority priority() {
+        return priority;
+    }
+
+    AnalysisJobStatus status() {
+        return status;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    long virtualDeadlineNanos() {
+        return virtualDeadlineNanos;
+    }
+
+    /**
+     * 실행 시작 (큐 대기 시간 반환, 나노초)
+     */
+    long start() {
+        startedNanos = System.nanoTime();
+        status = AnalysisJobStatus.RUNNING;
+        updates.tryEmitNext(snapshot());
+        return startedNanos - submittedNanos;
+    }
+
+    void complete(InterviewAnalysisResponse response) {
+        result = response;
+        finish(AnalysisJobStatus.COMPLETED);
+    }
+
+    void fail(String message) {
+        errorMessage = message;
+        finish(AnalysisJobStatus.FAILED);
+    }
+
+    private void finish(AnalysisJobStatus terminal) {
+        completedNanos = System.nanoTime();
+        status = terminal;
+        updates.tryEmitNext(snapshot());
+        updates.tryEmitComplete();
+    }
+
+    /**
+     * 상태 변경 스트림 (현재 상태부터 시작, 완료/실패 후 종료)
+     */
+    Flux<AnalysisJobResponse> updates() {
+        return updates.asFlux();
+    }
+
+    AnalysisJobResponse snapshot() {
+        long started = startedNanos;
+        long completed = completedNanos;
+        long waitNanos = (started != 0 ? started : System.nanoTime()) - submittedNanos;
+        return AnalysisJobResponse.builder()
+                .jobId(id)
+                .status(status)
+                .priority(priority)
+                .submittedAt(submittedAt.toString())
+                .queueWaitMs(TimeUnit.NANOSECONDS.toMillis(waitNanos))
+                .processingTimeMs(completed != 0 && started != 0 ? TimeUnit.NANOSECONDS.toMillis(completed - started) : null)
+                .result(result)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
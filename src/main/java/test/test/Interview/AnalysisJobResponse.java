@@ -0,0 +1,49 @@
+package test.test.Interview;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 분석 작업 조회 응답 DTO (조회 시점의 스냅샷)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalysisJobResponse {
+
+    private String jobId;
+
+    private AnalysisJobStatus status;
+
+    private AnalysisPriority priority;
+
+    /**
+     * 접수 시각 (ISO-8601)
+     */
+    private String submittedAt;
+
+    /**
+     * 큐 대기 시간 (실행 시작 전이면 현재까지의 대기 시간)
+     */
+    private Long queueWaitMs;
+
+    /**
+     * 분석 소요 시간 (완료된 경우)
+     */
+    private Long processingTimeMs;
+
+    /**
+     * 분석 결과 (COMPLETED인 경우)
+     */
+    private InterviewAnalysisResponse result;
+
+    /**
+     * 오류 메시지 (FAILED인 경우)
+     */
+    private String errorMessage;
+}
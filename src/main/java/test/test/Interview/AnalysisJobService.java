@@ -0,0 +1,217 @@
+package test.test.Interview;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 면접 분석 작업 서비스
+ * 접수한 요청을 제한된 크기의 우선순위 큐에 넣고, 고정된 수의 작업자가 가상 마감 시각이 빠른 순서로 꺼내 분석
+ * 가상 마감 시각은 접수 시각 + 우선순위 단계 × aging-step 이므로 HIGH가 먼저 실행되되,
+ * aging-step 이상 기다린 MEDIUM 작업은 새로 들어온 HIGH 작업보다 앞서게 되어 기아 상태가 생기지 않음
+ * 작업자 수가 곧 이 경로의 최대 동시 분석 수이며, 결과는 완료 후 ttl 동안 메모리에 보관
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisJobService {
+
+    private static final Comparator<AnalysisJob> SCHEDULING_ORDER = Comparator
+            .comparingLong(AnalysisJob::virtualDeadlineNanos)
+            .thenComparingLong(AnalysisJob::sequence);
+
+    private final InterviewService interviewService;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 대기 가능한 최대 작업 수 (초과 시 접수 거절)
+     */
+    @Value("${interview.jobs.queue-capacity:100}")
+    private int queueCapacity;
+
+    /**
+     * 작업자 수 (동시에 분석할 최대 작업 수)
+     */
+    @Value("${interview.jobs.workers:4}")
+    private int workers;
+
+    /**
+     * 우선순위 한 단계에 해당하는 대기 시간
+     */
+    @Value("${interview.jobs.aging-step:15s}")
+    private Duration agingStep;
+
+    /**
+     * 완료된 작업 결과 보관 기간
+     */
+    @Value("${interview.jobs.result-ttl:10m}")
+    private Duration resultTtl;
+
+    /**
+     * 큐가 가득 찼을 때 클라이언트에 안내할 재시도 대기 시간
+     */
+    @Value("${interview.jobs.retry-after:10s}")
+    private Duration retryAfter;
+
+    private final PriorityBlockingQueue<AnalysisJob> queue = new PriorityBlockingQueue<>(16, SCHEDULING_ORDER);
+
+    /**
+     * 큐에 들어 있는 작업 수 (PriorityBlockingQueue는 크기 제한이 없으므로 별도로 집계)
+     */
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final List<Thread> workerThreads = new ArrayList<>();
+
+    private Cache<String, AnalysisJob> jobs;
+
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        long ttlNanos = resultTtl.toNanos();
+        // 대기/실행 중인 작업은 만료되지 않고, 완료 시 다시 저장하면 그때부터 ttl 적용
+        jobs = Caffeine.newBuilder()
+                .expireAfter(Expiry.<String, AnalysisJob>writing((id, job) ->
+                        job.status().isTerminal() ? Duration.ofNanos(ttlNanos) : Duration.ofNanos(Long.MAX_VALUE)))
+                .build();
+
+        Gauge.builder("interview.jobs.queued", queued, AtomicInteger::get)
+                .description("실행을 기다리는 비동기 분석 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("interview.jobs.stored", this, service -> service.jobs.estimatedSize())
+                .description("보관 중인 비동기 분석 작업 수 (완료 결과 포함)")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("interview.jobs.rejected")
+                .description("큐가 가득 차 거절된 작업 수")
+                .register(meterRegistry);
+
+        for (int i = 0; i < workers; i++) {
+            Thread worker = Thread.ofVirtual().name("interview-job-", i).unstarted(this::work);
+            workerThreads.add(worker);
+            worker.start();
+        }
+        log.info("비동기 분석 작업자 시작: 작업자 {}개, 큐 크기 {}, aging-step {}", workers, queueCapacity, agingStep);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workerThreads.forEach(Thread::interrupt);
+        AnalysisJob job;
+        while ((job = queue.poll()) != null) {
+            queued.decrementAndGet();
+            job.fail("서버 종료로 작업이 실행되지 않았습니다");
+        }
+    }
+
+    /**
+     * 분석 작업 접수
+     *
+     * @param request 사용자 이력서 정보
+     * @return 접수된 작업 (QUEUED 상태)
+     * @throws AnalysisRejectedException 큐가 가득 찬 경우
+     */
+    public AnalysisJobResponse submit(InterviewAnalysisRequest request) {
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            rejectedCounter.increment();
+            throw new AnalysisRejectedException("분석 작업 큐가 가득 찼습니다 (최대 " + queueCapacity + "건)", retryAfter);
+        }
+
+        AnalysisPriority priority = interviewService.determinePriority(request);
+        AnalysisJob job = new AnalysisJob(UUID.randomUUID().toString(), request, priority,
+                sequence.incrementAndGet(), agingStep.toNanos());
+        jobs.put(job.id(), job);
+        queue.add(job);
+
+        log.info("분석 작업 접수: id={}, 우선순위={}, 대기 {}건", job.id(), priority, queued.get());
+        return job.snapshot();
+    }
+
+    /**
+     * 작업 상태 조회
+     *
+     * @param jobId 작업 ID
+     * @return 현재 상태 스냅샷 (없거나 만료되었으면 empty)
+     */
+    public Optional<AnalysisJobResponse> find(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId)).map(AnalysisJob::snapshot);
+    }
+
+    /**
+     * 작업 상태 변경 구독
+     *
+     * @param jobId 작업 ID
+     * @return 현재 상태부터 완료/실패까지의 스냅샷 스트림 (없거나 만료되었으면 empty)
+     */
+    public Optional<Flux<AnalysisJobResponse>> watch(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId)).map(AnalysisJob::updates);
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            AnalysisJob job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queued.decrementAndGet();
+            run(job);
+        }
+    }
+
+    /**
+     * 작업 하나 실행 (작업자 가상 스레드에서 분석 완료까지 대기)
+     */
+    private void run(AnalysisJob job) {
+        long waitNanos = job.start();
+        Timer.builder("interview.jobs.wait")
+                .description("비동기 분석 작업의 큐 대기 시간")
+                .tag("priority", job.priority().name())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+
+        try {
+            InterviewAnalysisResponse response = interviewService.analyzeProfile(job.request()).block();
+            if (response == null) {
+                job.fail("응답이 null입니다");
+            } else {
+                job.complete(response);
+            }
+        } catch (RuntimeException e) {
+            log.error("분석 작업 실패: id={}", job.id(), e);
+            job.fail("분석 처리 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            // 완료 상태로 다시 저장하여 결과 보관 기간(ttl) 시작
+            jobs.put(job.id(), job);
+        }
+        log.debug("분석 작업 종료: id={}, 상태={}, 대기 {}ms", job.id(), job.status(), TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
+}
@@ -0,0 +1,31 @@
+package test.test.Interview;
+
+/**
+ * 비동기 분석 작업 상태
+ */
+public enum AnalysisJobStatus {
+
+    /**
+     * 큐에서 실행을 기다리는 중
+     */
+    QUEUED,
+
+    /**
+     * 작업자가 분석 중
+     */
+    RUNNING,
+
+    /**
+     * 분석 완료 (기본 콘텐츠로 대체된 결과 포함)
+     */
+    COMPLETED,
+
+    /**
+     * 분석 중 예외 발생 또는 서버 종료로 실행되지 못함
+     */
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
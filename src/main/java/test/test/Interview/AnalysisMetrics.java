@@ -0,0 +1,133 @@
+package test.test.Interview;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 분석 파이프라인 단계별 메트릭
+ * <ul>
+ *     <li>interview.analysis.stage (timer, stage=prompt|parse|format, type): CPU 측 단계별 소요 시간</li>
+ *     <li>gemini.call (timer, type, outcome=success|error|cancelled): 업스트림 호출 지연 (호출 제한기 대기 제외)</li>
+ *     <li>interview.analysis.fallback (counter, type, reason): 기본 콘텐츠 대체 횟수</li>
+ *     <li>gemini.tokens (counter, type, kind=prompt|candidates|thoughts|total): usageMetadata 토큰 사용량</li>
+ * </ul>
+ * 타이머는 백분위 히스토그램을 함께 노출하므로 Prometheus에서 histogram_quantile로 p99 SLO를 계산할 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalysisMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 프롬프트 구성 시간 기록
+     */
+    public <T> T timePrompt(GeminiCallType type, Supplier<T> promptBuilder) {
+        return stageTimer("prompt", type).record(promptBuilder);
+    }
+
+    /**
+     * 응답 파싱(질문 추출, JSON 역직렬화) 시간 기록
+     */
+    public <T> T timeParse(GeminiCallType type, Supplier<T> parser) {
+        return stageTimer("parse", type).record(parser);
+    }
+
+    /**
+     * HTML 변환 시간 기록
+     */
+    public String timeFormat(GeminiCallType type, Supplier<String> formatter) {
+        return stageTimer("format", type).record(formatter);
+    }
+
+    /**
+     * Gemini 단건 호출 지연 기록 (구독 시점부터 응답/오류/취소까지)
+     */
+    public <T> Mono<T> timeCall(GeminiCallType type, Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(result -> recordCall(type, "success", start))
+                    .doOnError(throwable -> recordCall(type, "error", start))
+                    .doOnCancel(() -> recordCall(type, "cancelled", start));
+        });
+    }
+
+    /**
+     * Gemini 스트리밍 호출 지연 기록 (구독 시점부터 스트림 종료까지)
+     */
+    public <T> Flux<T> timeStream(GeminiCallType type, Flux<T> call) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnComplete(() -> recordCall(type, "success", start))
+                    .doOnError(throwable -> recordCall(type, "error", start))
+                    .doOnCancel(() -> recordCall(type, "cancelled", start));
+        });
+    }
+
+    /**
+     * 기본 콘텐츠 대체 기록
+     */
+    public void recordFallback(GeminiCallType type, DegradedReason reason) {
+        Counter.builder("interview.analysis.fallback")
+                .description("기본 콘텐츠로 대체된 생성 건수")
+                .tag("type", type.tag())
+                .tag("reason", reason.name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 토큰 사용량 기록 (usageMetadata가 없으면 무시)
+     */
+    public void recordUsage(GeminiCallType type, GeminiResponse.UsageMetadata usage) {
+        if (usage == null) {
+            return;
+        }
+        incrementTokens(type, "prompt", usage.promptTokenCount());
+        incrementTokens(type, "candidates", usage.candidatesTokenCount());
+        incrementTokens(type, "thoughts", usage.thoughtsTokenCount());
+        incrementTokens(type, "total", usage.totalTokenCount());
+    }
+
+    private void incrementTokens(GeminiCallType type, String kind, Integer count) {
+        if (count == null || count <= 0) {
+            return;
+        }
+        Counter.builder("gemini.tokens")
+                .description("Gemini 토큰 사용량")
+                .baseUnit("tokens")
+                .tag("type", type.tag())
+                .tag("kind", kind)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private void recordCall(GeminiCallType type, String outcome, long startNanos) {
+        Timer.builder("gemini.call")
+                .description("Gemini 호출 지연 (호출 유형별)")
+                .tag("type", type.tag())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer stageTimer(String stage, GeminiCallType type) {
+        return Timer.builder("interview.analysis.stage")
+                .description("분석 파이프라인 CPU 단계별 소요 시간")
+                .tag("stage", stage)
+                .tag("type", type.tag())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,24 @@
+package test.test.Interview;
+
+/**
+ * 면접 분석 실행 모드
+ * 면접 질문/학습 경로 Gemini 호출을 어떤 방식으로 조합할지 결정
+ */
+public enum AnalysisMode {
+
+    /**
+     * 면접 질문 생성 후 학습 경로 생성 (순차 호출)
+     */
+    SEQUENTIAL,
+
+    /**
+     * 면접 질문과 학습 경로를 동시에 호출한 뒤 결과 합류 (fan-out/fan-in)
+     */
+    PARALLEL,
+
+    /**
+     * 응답 스키마(JSON)를 지정한 단일 호출로 면접 질문과 학습 경로를 함께 생성
+     * 프로필이 한 번만 전송되므로 업스트림 요청 수와 입력 토큰이 절반으로 감소
+     */
+    COMBINED
+}
@@ -0,0 +1,101 @@
+package test.test.Interview;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 분석 결과 페이로드(생성된 질문/학습 경로) 로거
+ * 요청마다 남기지 않고 N건 중 1건 또는 기본 콘텐츠로 대체된 요청만 기록하며, 항목별 길이를 제한
+ * 전용 로거(test.test.Interview.payload)를 사용하므로 logging.level로 따로 끄거나 켤 수 있음
+ */
+@Slf4j(topic = "test.test.Interview.payload")
+@Component
+public class AnalysisPayloadLogger {
+
+    /**
+     * 샘플링 비율 (N건 중 1건 기록, 1이면 매 요청, 0이면 샘플링 기록 안 함)
+     * 페이로드에는 사용자별 생성 결과가 담기므로 기본값은 끔 (기본 콘텐츠로 대체된 요청만 기록)
+     */
+    @Value("${interview.logging.payload.sample-rate:0}")
+    private int sampleRate;
+
+    /**
+     * 기본 콘텐츠로 대체된(degraded) 요청은 샘플링과 무관하게 기록
+     */
+    @Value("${interview.logging.payload.on-degraded:true}")
+    private boolean onDegraded;
+
+    /**
+     * 항목별 최대 기록 길이 (문자 수)
+     */
+    @Value("${interview.logging.payload.max-chars:500}")
+    private int maxChars;
+
+    /**
+     * 분석 응답 페이로드 기록 (샘플링 대상이 아니면 문자열을 만들지 않음)
+     *
+     * @param request 사용자 이력서 정보
+     * @param response 분석 응답
+     */
+    public void logResponse(InterviewAnalysisRequest request, InterviewAnalysisResponse response) {
+        InterviewAnalysisResponse.AnalysisMetadata metadata = response.getMetadata();
+        boolean degraded = metadata != null && Boolean.TRUE.equals(metadata.getDegraded());
+        if (!isSampled(degraded)) {
+            return;
+        }
+
+        log.atInfo()
+                .setMessage("분석 페이로드: 질문=[{}], 학습 경로={}")
+                .addKeyValue("position", request.getPosition())
+                .addKeyValue("experience", request.getExperience())
+                .addKeyValue("degraded", degraded)
+                .addKeyValue("degradedReason", metadata != null ? metadata.getDegradedReason() : null)
+                .addArgument(() -> joinCapped(response.getInterviewQuestions()))
+                .addArgument(() -> cap(response.getLearningPath()))
+                .log();
+    }
+
+    private boolean isSampled(boolean degraded) {
+        if (!log.isInfoEnabled()) {
+            return false;
+        }
+        if (degraded && onDegraded) {
+            return true;
+        }
+        return sampleRate > 0 && (sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+    }
+
+    private String joinCapped(List<String> questions) {
+        if (questions == null || questions.isEmpty()) {
+            return "";
+        }
+        StringBuilder joined = new StringBuilder(Math.min(maxChars, 256));
+        for (String question : questions) {
+            if (!joined.isEmpty()) {
+                joined.append(" | ");
+            }
+            joined.append(question);
+            if (joined.length() > maxChars) {
+                break;
+            }
+        }
+        return cap(joined);
+    }
+
+    /**
+     * 최대 길이로 자르고 생략된 길이 표시
+     */
+    private String cap(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        if (text.length() <= maxChars) {
+            return text.toString();
+        }
+        return text.subSequence(0, maxChars) + "...(+" + (text.length() - maxChars) + "자)";
+    }
+}
@@ -0,0 +1,18 @@
+package test.test.Interview;
+
+/**
+ * 분석 요청 우선순위 (InterviewService.determinePriority 결과)
+ * 비동기 작업 큐에서는 선언 순서가 곧 우선순위이며, 한 단계 낮을 때마다 aging-step만큼 늦은 가상 마감 시각을 받음
+ */
+public enum AnalysisPriority {
+
+    /**
+     * 신입 또는 프로젝트 경험을 자세히 작성한 요청
+     */
+    HIGH,
+
+    /**
+     * 그 외 요청
+     */
+    MEDIUM
+}
@@ -0,0 +1,21 @@
+package test.test.Interview;
+
+import java.time.Duration;
+
+/**
+ * 분석 요청 거절 예외 (과부하)
+ * 비동기 작업 큐가 가득 찼거나 동기 분석의 예상 대기 시간이 한도를 넘은 경우 발생하며, 클라이언트에 재시도 권장 시간을 전달
+ */
+public class AnalysisRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public AnalysisRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,124 @@
+package test.test.Interview;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 면접 분석 결과 캐시
+ * 정규화된 프로필 지문(ProfileFingerprint)을 키로 성공 응답을 보관하며, 크기(추정 바이트)와 TTL 기준으로 제거
+ * 적중/미스/제거 횟수는 cache.* 메트릭(cache=interview.analysis)으로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisResultCache {
+
+    private static final String CACHE_NAME = "interview.analysis";
+
+    /**
+     * 객체 헤더, 리스트, 메타데이터 등 문자열 외 고정 비용 추정치 (바이트)
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${interview.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${interview.cache.ttl:30m}")
+    private Duration ttl;
+
+    @Value("${interview.cache.max-weight-bytes:67108864}")
+    private long maxWeightBytes;
+
+    private Cache<String, InterviewAnalysisResponse> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher(AnalysisResultCache::estimateBytes)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("interview.analysis.cache.weight", cache, c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .description("캐시된 분석 결과의 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        log.info("분석 결과 캐시 설정: enabled={}, ttl={}, maxWeight={}bytes", enabled, ttl, maxWeightBytes);
+    }
+
+    /**
+     * 캐시된 응답 조회
+     *
+     * @param key 프로필 지문
+     * @return 캐시 적중 시 metadata.cached=true로 표시된 응답 사본, 미스 시 null
+     */
+    public InterviewAnalysisResponse get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        InterviewAnalysisResponse cached = cache.getIfPresent(key);
+        if (cached == null) {
+            return null;
+        }
+
+        InterviewAnalysisResponse.AnalysisMetadata metadata = cached.getMetadata() != null
+                ? cached.getMetadata().toBuilder().cached(true).build()
+                : InterviewAnalysisResponse.AnalysisMetadata.builder().cached(true).build();
+        return cached.toBuilder().metadata(metadata).build();
+    }
+
+    /**
+     * 성공 응답 저장 (실패 응답 및 기본 콘텐츠로 대체된 응답은 저장하지 않음)
+     *
+     * @param key 프로필 지문
+     * @param response 분석 응답
+     */
+    public void put(String key, InterviewAnalysisResponse response) {
+        if (!enabled || !response.isSuccess()) {
+            return;
+        }
+        if (response.getMetadata() != null && Boolean.TRUE.equals(response.getMetadata().getDegraded())) {
+            return;
+        }
+        cache.put(key, response);
+    }
+
+    /**
+     * 캐시 항목의 메모리 사용량 추정 (문자열은 UTF-16 기준 2바이트/문자)
+     */
+    static int estimateBytes(String key, InterviewAnalysisResponse response) {
+        long chars = key.length();
+        List<String> questions = response.getInterviewQuestions();
+        if (questions != null) {
+            for (String question : questions) {
+                chars += question.length();
+            }
+        }
+        if (response.getLearningPath() != null) {
+            chars += response.getLearningPath().length();
+        }
+        InterviewAnalysisResponse.AnalysisMetadata metadata = response.getMetadata();
+        if (metadata != null && metadata.getExtractedKeywords() != null) {
+            for (String keyword : metadata.getExtractedKeywords()) {
+                chars += keyword != null ? keyword.length() : 0;
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, chars * 2 + ENTRY_OVERHEAD_BYTES);
+    }
+}
@@ -0,0 +1,25 @@
+package test.test.Interview;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 분석 결과 DTO (NDJSON 한 줄)
+ * 결과는 완료 순서대로 전송되므로 요청 순번으로 입력과 대응
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAnalysisResult {
+
+    /**
+     * 입력 내 요청 순번 (0부터 시작)
+     */
+    private long index;
+
+    /**
+     * 해당 요청의 분석 응답 (실패 시 success=false)
+     */
+    private InterviewAnalysisResponse response;
+}
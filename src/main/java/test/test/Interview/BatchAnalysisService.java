@@ -0,0 +1,107 @@
+package test.test.Interview;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 면접 분석 서비스
+ * 여러 프로필을 제한된 동시성으로 InterviewService에 전달하고, 완료되는 대로 결과를 방출
+ * 개별 요청의 실패는 해당 결과에만 반영되고 나머지 처리는 계속됨
+ * 단건 /analyze의 @Valid와 같은 Bean Validation을 항목마다 적용 (본문 전체가 아니라 위반한 항목만 실패 처리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchAnalysisService {
+
+    private final InterviewService interviewService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    /**
+     * 동시에 처리할 최대 분석 수
+     */
+    @Value("${interview.batch.concurrency:4}")
+    private int concurrency;
+
+    /**
+     * 요청 스트림 일괄 분석
+     *
+     * @param requests 분석 요청 스트림
+     * @return 완료 순서대로의 분석 결과
+     */
+    public Flux<BatchAnalysisResult> analyzeAll(Flux<InterviewAnalysisRequest> requests) {
+        return requests
+                .index()
+                .flatMap(indexed -> analyzeOne(indexed.getT1(), indexed.getT2()), concurrency);
+    }
+
+    /**
+     * 요청 목록 일괄 분석 (JSON 배열의 null 항목은 해당 위치의 실패 결과로 기록)
+     *
+     * @param requests 분석 요청 목록 (null 항목 허용)
+     * @return 완료 순서대로의 분석 결과
+     */
+    public Flux<BatchAnalysisResult> analyzeAll(List<InterviewAnalysisRequest> requests) {
+        // Flux.fromIterable은 null 항목에서 NPE로 전체 스트림을 중단하므로 위치로 직접 순회
+        return Flux.range(0, requests.size())
+                .flatMap(index -> analyzeOne(index, requests.get(index)), concurrency);
+    }
+
+    /**
+     * NDJSON 줄 스트림 일괄 분석 (잘못된 줄은 실패 결과로 기록하고 계속 진행)
+     *
+     * @param lines NDJSON 줄 스트림
+     * @return 완료 순서대로의 분석 결과
+     */
+    public Flux<BatchAnalysisResult> analyzeNdjson(Flux<String> lines) {
+        return lines
+                .filter(line -> !line.isBlank())
+                .index()
+                .flatMap(indexed -> {
+                    InterviewAnalysisRequest request;
+                    try {
+                        request = objectMapper.readValue(indexed.getT2(), InterviewAnalysisRequest.class);
+                    } catch (Exception e) {
+                        log.warn("일괄 분석 요청 파싱 실패: index={}", indexed.getT1(), e);
+                        return Mono.just(new BatchAnalysisResult(indexed.getT1(),
+                                InterviewAnalysisResponse.failure("요청 형식이 올바르지 않습니다: " + e.getMessage())));
+                    }
+                    return analyzeOne(indexed.getT1(), request);
+                }, concurrency);
+    }
+
+    private Mono<BatchAnalysisResult> analyzeOne(long index, InterviewAnalysisRequest request) {
+        if (request == null) {
+            return Mono.just(new BatchAnalysisResult(index, InterviewAnalysisResponse.failure("요청이 비어 있습니다")));
+        }
+        Set<ConstraintViolation<InterviewAnalysisRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            log.warn("일괄 분석 요청 검증 실패: index={}, {}", index, message);
+            return Mono.just(new BatchAnalysisResult(index, InterviewAnalysisResponse.failure("요청 검증 실패: " + message)));
+        }
+        return interviewService.analyzeProfile(request)
+                .onErrorResume(throwable -> {
+                    log.error("일괄 분석 항목 처리 실패: index={}", index, throwable);
+                    return Mono.just(InterviewAnalysisResponse.failure("분석 처리 중 오류가 발생했습니다: " + throwable.getMessage()));
+                })
+                .map(response -> new BatchAnalysisResult(index, response));
+    }
+}
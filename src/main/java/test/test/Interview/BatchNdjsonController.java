@@ -0,0 +1,47 @@
+package test.test.Interview;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * NDJSON 일괄 분석 컨트롤러 (서블릿 런타임 전용)
+ * Spring MVC는 리액티브 요청 본문을 지원하지 않으므로 요청 스트림을 줄 단위로 직접 읽음
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/interview")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BatchNdjsonController {
+
+    private final BatchAnalysisService batchAnalysisService;
+
+    /**
+     * NDJSON 요청 스트림 일괄 분석
+     * 요청 본문은 처리 속도에 맞춰 한 줄씩 읽고, 결과는 완료되는 대로 NDJSON으로 전송
+     *
+     * @param request 한 줄에 InterviewAnalysisRequest 하나씩 담긴 요청
+     * @return 완료 순서대로의 분석 결과
+     */
+    @PostMapping(value = "/analyze/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BatchAnalysisResult> analyzeBatchNdjson(HttpServletRequest request) throws IOException {
+        log.info("NDJSON 일괄 분석 요청 수신");
+
+        BufferedReader reader = request.getReader();
+        Flux<String> lines = Flux.fromStream(reader::lines)
+                .subscribeOn(Schedulers.boundedElastic());
+
+        return batchAnalysisService.analyzeNdjson(lines);
+    }
+}
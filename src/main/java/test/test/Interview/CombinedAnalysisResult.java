@@ -0,0 +1,99 @@
+package test.test.Interview;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단일 호출(COMBINED) 모드의 구조화 응답 DTO
+ * Gemini responseSchema로 강제한 JSON을 그대로 역직렬화
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CombinedAnalysisResult {
+
+    /**
+     * Gemini generationConfig (JSON 응답 + 스키마 강제, 클래스 로딩 시 한 번만 직렬화)
+     */
+    public static final GeminiGenerationConfig GENERATION_CONFIG = GeminiGenerationConfig.of(Map.of(
+            "responseMimeType", "application/json",
+            "responseSchema", Map.of(
+                    "type", "OBJECT",
+                    "properties", Map.of(
+                            "questions", Map.of(
+                                    "type", "ARRAY",
+                                    "items", Map.of("type", "STRING")
+                            ),
+                            "learningPath", Map.of(
+                                    "type", "OBJECT",
+                                    "properties", Map.of(
+                                            "sections", Map.of(
+                                                    "type", "ARRAY",
+                                                    "items", Map.of(
+                                                            "type", "OBJECT",
+                                                            "properties", Map.of(
+                                                                    "title", Map.of("type", "STRING"),
+                                                                    "items", Map.of(
+                                                                            "type", "ARRAY",
+                                                                            "items", Map.of("type", "STRING")
+                                                                    )
+                                                            ),
+                                                            "required", List.of("title", "items")
+                                                    )
+                                            )
+                                    ),
+                                    "required", List.of("sections")
+                            )
+                    ),
+                    "required", List.of("questions", "learningPath")
+            )
+    ));
+
+    /**
+     * 면접 질문 리스트
+     */
+    private List<String> questions;
+
+    /**
+     * 학습 경로
+     */
+    private LearningPath learningPath;
+
+    /**
+     * 학습 경로 (섹션 목록)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class LearningPath {
+
+        private List<Section> sections;
+    }
+
+    /**
+     * 학습 경로 섹션 (예: 단기 목표 (1-3개월))
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Section {
+
+        /**
+         * 섹션 제목
+         */
+        private String title;
+
+        /**
+         * 섹션 항목
+         */
+        private List<String> items;
+    }
+}
@@ -0,0 +1,58 @@
+package test.test.Interview;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 기본 콘텐츠로 대체된 원인
+ */
+public enum DegradedReason {
+
+    /**
+     * 서킷 브레이커가 열려 Gemini 호출 없이 즉시 대체
+     */
+    CIRCUIT_OPEN,
+
+    /**
+     * 호출 제한기 대기 시간 초과
+     */
+    RATE_LIMITED,
+
+    /**
+     * 생성 타임아웃 초과
+     */
+    TIMEOUT,
+
+    /**
+     * 안전 정책 등으로 Gemini가 응답을 차단
+     */
+    CONTENT_BLOCKED,
+
+    /**
+     * Gemini 오류 응답 또는 응답 처리 실패
+     */
+    UPSTREAM_ERROR;
+
+    /**
+     * 실패 원인 예외로부터 대체 원인 분류
+     *
+     * @param throwable 실패 원인
+     * @return 대체 원인
+     */
+    public static DegradedReason of(Throwable throwable) {
+        if (throwable instanceof CallNotPermittedException) {
+            return CIRCUIT_OPEN;
+        }
+        if (throwable instanceof GeminiRateLimitExceededException) {
+            return RATE_LIMITED;
+        }
+        if (throwable instanceof GeminiContentBlockedException) {
+            return CONTENT_BLOCKED;
+        }
+        if (throwable instanceof TimeoutException) {
+            return TIMEOUT;
+        }
+        return UPSTREAM_ERROR;
+    }
+}
@@ -0,0 +1,26 @@
+package test.test.Interview;
+
+import lombok.Getter;
+
+/**
+ * Gemini API 호출 예외
+ * 전송 방식(WebClient/JDK HttpClient)과 무관하게 업스트림 오류를 동일한 형태로 전달
+ */
+@Getter
+public class GeminiApiException extends RuntimeException {
+
+    /**
+     * 업스트림 HTTP 상태 코드 (응답을 받지 못한 경우 0)
+     */
+    private final int statusCode;
+
+    public GeminiApiException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public GeminiApiException(int statusCode, String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = statusCode;
+    }
+}
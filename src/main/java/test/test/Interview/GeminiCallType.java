@@ -0,0 +1,32 @@
+package test.test.Interview;
+
+/**
+ * Gemini 호출 유형 (메트릭 type 태그)
+ */
+public enum GeminiCallType {
+
+    /**
+     * 면접 질문 생성
+     */
+    QUESTIONS("questions"),
+
+    /**
+     * 학습 경로 생성
+     */
+    LEARNING_PATH("learning-path"),
+
+    /**
+     * 면접 질문과 학습 경로를 함께 생성 (COMBINED 모드)
+     */
+    COMBINED("combined");
+
+    private final String tag;
+
+    GeminiCallType(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
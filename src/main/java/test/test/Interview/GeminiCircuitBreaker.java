@@ -0,0 +1,213 @@
+package test.test.Interview;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Gemini 서킷 브레이커
+ * 슬라이딩 윈도우의 오류율/지연 호출 비율이 임계치를 넘으면 OPEN 상태로 전환하여 업스트림 호출 없이 즉시 실패(CallNotPermittedException)시키고,
+ * 대기 시간이 지나면 HALF_OPEN 상태에서 소수의 탐색 호출로 회복 여부를 확인
+ * 상태와 전환은 resilience4j.circuitbreaker.* 메트릭(name=gemini)으로 노출
+ * 지연 판정에 로컬 대기 시간이 섞이지 않도록 protect/protectStream은 호출 제한기 안쪽의 업스트림 호출(타임아웃 포함)만 감싸고,
+ * 제한기 대기 전의 빠른 실패는 rejectIfOpen으로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeminiCircuitBreaker {
+
+    private static final String NAME = "gemini";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${google.gemini.circuit-breaker.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 오류율/지연 호출 비율을 계산할 최근 호출 수
+     */
+    @Value("${google.gemini.circuit-breaker.sliding-window-size:50}")
+    private int slidingWindowSize;
+
+    /**
+     * 비율 계산을 시작하기 위한 최소 호출 수
+     */
+    @Value("${google.gemini.circuit-breaker.minimum-number-of-calls:10}")
+    private int minimumNumberOfCalls;
+
+    /**
+     * OPEN 전환 오류율 임계치 (%)
+     */
+    @Value("${google.gemini.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    /**
+     * OPEN 전환 지연 호출 비율 임계치 (%)
+     */
+    @Value("${google.gemini.circuit-breaker.slow-call-rate-threshold:80}")
+    private float slowCallRateThreshold;
+
+    /**
+     * 지연 호출 판정 기준 시간
+     */
+    @Value("${google.gemini.circuit-breaker.slow-call-duration-threshold:20s}")
+    private Duration slowCallDurationThreshold;
+
+    /**
+     * OPEN 상태 유지 시간 (이후 HALF_OPEN으로 자동 전환)
+     */
+    @Value("${google.gemini.circuit-breaker.wait-duration-in-open-state:30s}")
+    private Duration waitDurationInOpenState;
+
+    /**
+     * HALF_OPEN 상태에서 허용하는 탐색 호출 수
+     */
+    @Value("${google.gemini.circuit-breaker.permitted-calls-in-half-open-state:3}")
+    private int permittedCallsInHalfOpenState;
+
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    void init() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(slowCallDurationThreshold)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(GeminiCircuitBreaker::isUpstreamFailure)
+                .ignoreException(throwable -> !isUpstreamFailure(throwable))
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        circuitBreaker = registry.circuitBreaker(NAME);
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("Gemini 서킷 브레이커 상태 전환: {}", event.getStateTransition()));
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    }
+
+    /**
+     * OPEN 상태면 호출 제한기 대기 없이 즉시 실패 (HALF_OPEN 탐색 호출 허용 여부는 protect에서 판정)
+     *
+     * @param call 호출 제한기를 포함한 Gemini 호출
+     * @return OPEN 상태면 즉시 CallNotPermittedException으로 실패하는 호출
+     */
+    public <T> Mono<T> rejectIfOpen(Mono<T> call) {
+        return rejectIfOpen(call.flux()).singleOrEmpty();
+    }
+
+    /**
+     * OPEN 상태면 호출 제한기 대기 없이 즉시 실패 (스트리밍 호출)
+     *
+     * @param call 호출 제한기를 포함한 Gemini 스트리밍 호출
+     * @return OPEN 상태면 즉시 CallNotPermittedException으로 실패하는 호출
+     */
+    public <T> Flux<T> rejectIfOpen(Flux<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Flux.defer(() -> {
+            CircuitBreaker.State state = circuitBreaker.getState();
+            if (state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN) {
+                return Flux.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+            return call;
+        });
+    }
+
+    /**
+     * 단건 호출 보호
+     * 타임아웃은 이 호출 안쪽에 걸어야 지연 업스트림이 실패로 집계됨 (바깥 타임아웃의 취소는 성공/실패 어느 쪽으로도 집계되지 않음)
+     *
+     * @param call Gemini 업스트림 호출 (타임아웃 포함)
+     * @return OPEN 상태면 즉시 CallNotPermittedException으로 실패하는 호출
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return call.transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    /**
+     * 스트리밍 호출 보호
+     * 전체 스트림 길이가 아닌 첫 조각 수신까지의 시간으로 성공/지연을 판정 (긴 생성이 지연 호출로 집계되지 않도록)
+     *
+     * @param call Gemini 스트리밍 호출
+     * @return OPEN 상태면 즉시 CallNotPermittedException으로 실패하는 호출
+     */
+    public <T> Flux<T> protectStream(Flux<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Flux.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+            long startNanos = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+
+            return call
+                    .doOnNext(item -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.onSuccess(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                        }
+                    })
+                    .doOnError(throwable -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.onError(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS, throwable);
+                        }
+                    })
+                    .doFinally(signal -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.releasePermission();
+                        }
+                    });
+        });
+    }
+
+    CircuitBreaker.State state() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * 업스트림 장애로 집계할 오류인지 판단
+     * 로컬 호출 제한 초과와 요청 자체의 문제(429 외 4xx)는 장애로 보지 않고, 성공으로도 집계하지 않도록 무시
+     */
+    private static boolean isUpstreamFailure(Throwable throwable) {
+        if (throwable instanceof GeminiRateLimitExceededException) {
+            return false;
+        }
+        if (GeminiRateLimiter.isOverloadSignal(throwable)) {
+            return true;
+        }
+        // 연결 실패(DNS, 연결 거부, 연결 끊김 등) 전송 오류
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
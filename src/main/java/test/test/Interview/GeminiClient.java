@@ -0,0 +1,67 @@
+package test.test.Interview;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gemini API 전송 계층
+ * google.gemini.client.transport 설정으로 구현체 선택 (webclient: Reactor Netty WebClient, jdk: 가상 스레드 기반 JDK HttpClient)
+ */
+public interface GeminiClient {
+
+    /**
+     * 모델 리소스 URL 기본값 (google.gemini.api.url로 변경 가능, 예: 로컬 모의 서버)
+     */
+    String DEFAULT_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.5-flash";
+
+    /**
+     * 프롬프트를 전달하고 생성 응답 반환
+     *
+     * @param prompt AI에게 전달할 프롬프트
+     * @return 타입 지정 응답 (텍스트, 종료 사유, 토큰 사용량)
+     */
+    default Mono<GeminiResponse> generateContent(GeminiPrompt prompt) {
+        return generateContent(prompt, null);
+    }
+
+    /**
+     * 생성 설정(generationConfig)과 함께 프롬프트 전달
+     * responseMimeType=application/json 과 responseSchema를 지정하면 스키마에 맞는 JSON 텍스트가 반환됨
+     *
+     * @param prompt AI에게 전달할 프롬프트
+     * @param generationConfig 미리 직렬화한 Gemini generationConfig (null이면 생략)
+     * @return 타입 지정 응답 (텍스트, 종료 사유, 토큰 사용량)
+     */
+    Mono<GeminiResponse> generateContent(GeminiPrompt prompt, GeminiGenerationConfig generationConfig);
+
+    /**
+     * 프롬프트를 전달하고 생성 응답을 조각 단위로 스트리밍 (streamGenerateContent, SSE)
+     * 마지막 조각에 종료 사유와 토큰 사용량이 담김
+     *
+     * @param prompt AI에게 전달할 프롬프트
+     * @return 도착 순서대로의 응답 조각
+     */
+    Flux<GeminiResponse> streamGenerateContent(GeminiPrompt prompt);
+
+    /**
+     * generateContent 호출 URI
+     */
+    static String generateContentUri(String apiUrl, String apiKey) {
+        return apiUrl + ":generateContent?key=" + apiKey;
+    }
+
+    /**
+     * streamGenerateContent(SSE) 호출 URI
+     */
+    static String streamGenerateContentUri(String apiUrl, String apiKey) {
+        return apiUrl + ":streamGenerateContent?alt=sse&key=" + apiKey;
+    }
+
+    /**
+     * generateContent 요청 본문(JSON) 구성
+     * 프롬프트는 템플릿의 미리 인코딩된 조각을, generationConfig는 미리 직렬화한 JSON을 그대로 복사
+     */
+    static byte[] requestBody(GeminiPrompt prompt, GeminiGenerationConfig generationConfig) {
+        return prompt.toRequestBody(generationConfig != null ? generationConfig.json() : null);
+    }
+}
@@ -0,0 +1,21 @@
+package test.test.Interview;
+
+import lombok.Getter;
+
+/**
+ * 안전 정책 등으로 Gemini가 프롬프트나 생성 결과를 차단한 경우의 예외
+ * 같은 프롬프트로 재시도해도 결과가 같으므로 업스트림 장애로 집계하지 않음
+ */
+@Getter
+public class GeminiContentBlockedException extends GeminiApiException {
+
+    /**
+     * 차단 사유 (promptFeedback.blockReason 또는 finishReason)
+     */
+    private final String blockReason;
+
+    public GeminiContentBlockedException(String blockReason) {
+        super(200, "Gemini가 응답을 차단했습니다: " + blockReason);
+        this.blockReason = blockReason;
+    }
+}
@@ -0,0 +1,43 @@
+package test.test.Interview;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+
+/**
+ * 미리 직렬화한 Gemini generationConfig
+ * 상수 설정을 생성 시 한 번만 JSON으로 인코딩해 두고, 요청 본문에는 인코딩된 바이트를 그대로 복사
+ */
+public final class GeminiGenerationConfig {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final byte[] json;
+
+    private GeminiGenerationConfig(byte[] json) {
+        this.json = json;
+    }
+
+    /**
+     * generationConfig 인코딩
+     *
+     * @param config Gemini generationConfig (문자열/숫자/목록/맵으로 구성)
+     * @return 인코딩된 설정
+     * @throws IllegalArgumentException 직렬화할 수 없는 설정
+     */
+    public static GeminiGenerationConfig of(Map<String, Object> config) {
+        try {
+            return new GeminiGenerationConfig(OBJECT_MAPPER.writeValueAsBytes(config));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("generationConfig 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 인코딩된 JSON (호출자가 수정하지 않아야 함)
+     */
+    byte[] json() {
+        return json;
+    }
+}
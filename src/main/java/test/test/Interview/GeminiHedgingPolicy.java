@@ -0,0 +1,210 @@
+package test.test.Interview;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 헤지(hedged) 요청 정책
+ * 호출이 최근 응답 시간의 지정 백분위수 안에 끝나지 않으면 동일한 요청을 한 번 더 보내고, 먼저 도착한 응답을 사용하며 나머지는 취소
+ * 추가 업스트림 부하는 예산(요청당 budget-ratio 만큼 적립, 헤지 1회당 1 소모)으로 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeminiHedgingPolicy {
+
+    /**
+     * 적립 가능한 최대 헤지 예산 (순간적인 헤지 폭주 방지)
+     */
+    private static final double MAX_BUDGET = 10.0;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${google.gemini.hedging.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 헤지 기준 백분위수 (예: 0.95 → 최근 p95 응답 시간을 넘기면 헤지)
+     */
+    @Value("${google.gemini.hedging.percentile:0.95}")
+    private double percentile;
+
+    /**
+     * 최소 헤지 지연 (백분위수가 이보다 짧아도 이 시간은 기다림)
+     */
+    @Value("${google.gemini.hedging.min-delay:500ms}")
+    private Duration minDelay;
+
+    /**
+     * 헤지를 시작하기 위한 최소 응답 시간 샘플 수
+     */
+    @Value("${google.gemini.hedging.min-samples:20}")
+    private int minSamples;
+
+    /**
+     * 응답 시간 샘플 보관 개수 (최근 N건)
+     */
+    @Value("${google.gemini.hedging.window-size:256}")
+    private int windowSize;
+
+    /**
+     * 요청당 적립되는 헤지 예산 (0.1 → 최대 약 10%의 추가 요청)
+     */
+    @Value("${google.gemini.hedging.budget-ratio:0.1}")
+    private double budgetRatio;
+
+    /**
+     * 헤지 지연(백분위수) 재계산 주기 (새 샘플 N건마다)
+     */
+    @Value("${google.gemini.hedging.recompute-every:16}")
+    private int recomputeEvery;
+
+    private long[] latencies;
+    private int sampleCount;
+    private int nextSample;
+    private int samplesSinceRecompute;
+    private double budget;
+
+    /**
+     * 캐시된 헤지 지연 (샘플 부족 시 null, 호출/게이지 조회 시 정렬하지 않도록 주기적으로만 갱신)
+     */
+    private volatile Duration cachedDelay;
+
+    private Counter callCounter;
+    private Counter hedgeCounter;
+    private Counter hedgeWinCounter;
+
+    @PostConstruct
+    void init() {
+        latencies = new long[windowSize];
+
+        callCounter = Counter.builder("gemini.hedge.calls")
+                .description("헤지 정책이 적용된 Gemini 호출 수")
+                .register(meterRegistry);
+        hedgeCounter = Counter.builder("gemini.hedge.issued")
+                .description("추가로 전송된 헤지 요청 수")
+                .register(meterRegistry);
+        hedgeWinCounter = Counter.builder("gemini.hedge.wins")
+                .description("헤지 요청이 먼저 응답한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("gemini.hedge.delay", this, policy -> {
+                    Duration delay = policy.hedgeDelay();
+                    return delay != null ? delay.toMillis() : 0;
+                })
+                .description("현재 헤지 지연 시간 (샘플 부족 시 0)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출에 헤지 정책 적용
+     *
+     * @param call 동일한 요청을 새로 만드는 공급자 (헤지 시 한 번 더 호출됨)
+     * @return 먼저 도착한 응답
+     */
+    public <T> Mono<T> hedge(Supplier<Mono<T>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        return Mono.defer(() -> {
+            callCounter.increment();
+            depositBudget();
+            long startNanos = System.nanoTime();
+            Duration delay = hedgeDelay();
+
+            // 백분위수가 헤지 결과로 줄어들지 않도록 원 요청의 응답 시간만 기록
+            // (헤지가 이겨 원 요청이 취소되면 취소 시점까지의 시간을 하한값으로 기록)
+            AtomicBoolean recorded = new AtomicBoolean();
+            Mono<T> primary = call.get()
+                    .doOnNext(value -> recordLatency(startNanos, recorded))
+                    .doOnCancel(() -> recordLatency(startNanos, recorded));
+            if (delay == null) {
+                return primary;
+            }
+
+            // 헤지 요청의 실패는 무시하고 원 요청의 결과(또는 오류)를 따름
+            Mono<T> hedged = Mono.delay(delay)
+                    .flatMap(tick -> {
+                        if (!withdrawBudget()) {
+                            return Mono.<T>empty();
+                        }
+                        hedgeCounter.increment();
+                        log.debug("Gemini 응답 지연으로 헤지 요청 전송: delay={}ms", delay.toMillis());
+                        return call.get();
+                    })
+                    .onErrorResume(throwable -> {
+                        log.debug("헤지 요청 실패 (무시)", throwable);
+                        return Mono.empty();
+                    });
+
+            return Flux.merge(primary.map(value -> Tuples.of(value, false)), hedged.map(value -> Tuples.of(value, true)))
+                    .next()
+                    .doOnNext(result -> {
+                        if (result.getT2()) {
+                            hedgeWinCounter.increment();
+                        }
+                    })
+                    .map(result -> result.getT1());
+        });
+    }
+
+    /**
+     * 현재 헤지 지연 시간 (샘플이 부족하면 null)
+     */
+    Duration hedgeDelay() {
+        return cachedDelay;
+    }
+
+    /**
+     * 원 요청 응답 시간 기록 (호출당 한 번), recomputeEvery건마다 헤지 지연 재계산
+     */
+    private void recordLatency(long startNanos, AtomicBoolean recorded) {
+        if (!recorded.compareAndSet(false, true)) {
+            return;
+        }
+        long[] snapshot;
+        synchronized (this) {
+            latencies[nextSample] = System.nanoTime() - startNanos;
+            nextSample = (nextSample + 1) % latencies.length;
+            sampleCount = Math.min(sampleCount + 1, latencies.length);
+            if (sampleCount < minSamples || ++samplesSinceRecompute < recomputeEvery && cachedDelay != null) {
+                return;
+            }
+            samplesSinceRecompute = 0;
+            snapshot = Arrays.copyOf(latencies, sampleCount);
+        }
+
+        // 정렬은 잠금 밖에서 수행
+        Arrays.sort(snapshot);
+        int index = (int) Math.min(snapshot.length - 1, Math.ceil(percentile * snapshot.length) - 1);
+        long delayNanos = Math.max(minDelay.toNanos(), snapshot[Math.max(0, index)]);
+        cachedDelay = Duration.ofNanos(delayNanos);
+    }
+
+    private synchronized void depositBudget() {
+        budget = Math.min(MAX_BUDGET, budget + budgetRatio);
+    }
+
+    private synchronized boolean withdrawBudget() {
+        if (budget < 1.0) {
+            return false;
+        }
+        budget -= 1.0;
+        return true;
+    }
+}
@@ -0,0 +1,94 @@
+package test.test.Interview;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 슬롯 값이 채워진 프롬프트
+ * 전체 문자열을 만들지 않고 템플릿의 미리 인코딩된 조각과 슬롯 값을 요청 본문에 바로 기록
+ */
+public final class GeminiPrompt {
+
+    private static final byte[] BODY_PREFIX = utf8("{\"contents\":[{\"parts\":[{\"text\":\"");
+
+    private static final byte[] BODY_TEXT_END = utf8("\"}]}]");
+
+    private static final byte[] GENERATION_CONFIG_FIELD = utf8(",\"generationConfig\":");
+
+    private static final byte[] BODY_END = utf8("}");
+
+    private final PromptTemplate template;
+
+    private final CharSequence[] values;
+
+    private final int length;
+
+    GeminiPrompt(PromptTemplate template, CharSequence[] values) {
+        this.template = template;
+        this.values = values;
+        int valueLength = 0;
+        for (CharSequence value : values) {
+            valueLength += value.length();
+        }
+        this.length = template.literalLength() + valueLength;
+    }
+
+    /**
+     * 템플릿 없이 문자열 그대로 사용하는 프롬프트
+     */
+    public static GeminiPrompt of(String text) {
+        return new GeminiPrompt(PromptTemplate.literal(text), new CharSequence[0]);
+    }
+
+    /**
+     * 프롬프트 길이 (문자 수, 토큰 추정용)
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * generateContent 요청 본문(JSON) 생성
+     *
+     * @param generationConfig 미리 직렬화한 generationConfig JSON (null이면 생략)
+     * @return UTF-8 JSON 본문
+     */
+    public byte[] toRequestBody(byte[] generationConfig) {
+        int valueLength = length - template.literalLength();
+        JsonByteBuffer body = new JsonByteBuffer(BODY_PREFIX.length + template.encodedLiteralLength() + valueLength * 3
+                + BODY_TEXT_END.length + GENERATION_CONFIG_FIELD.length
+                + (generationConfig != null ? generationConfig.length : 0) + BODY_END.length);
+
+        body.write(BODY_PREFIX);
+        for (int i = 0; i < template.slotCount(); i++) {
+            body.write(template.encodedLiteral(i));
+            body.writeEscaped(values[i]);
+        }
+        body.write(template.encodedLiteral(template.slotCount()));
+        body.write(BODY_TEXT_END);
+        if (generationConfig != null) {
+            body.write(GENERATION_CONFIG_FIELD).write(generationConfig);
+        }
+        body.write(BODY_END);
+        return body.toByteArray();
+    }
+
+    /**
+     * 완성된 프롬프트 문자열 (로그/디버깅용, 요청 경로에서는 사용하지 않음)
+     */
+    public String text() {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < template.slotCount(); i++) {
+            text.append(template.literal(i)).append(values[i]);
+        }
+        return text.append(template.literal(template.slotCount())).toString();
+    }
+
+    @Override
+    public String toString() {
+        return "GeminiPrompt[" + template.getName() + ", " + length + "자]";
+    }
+
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,12 @@
+package test.test.Interview;
+
+/**
+ * Gemini 호출 대기 한도 초과 예외
+ * 로컬 제한기(GeminiRateLimiter)에서 허용 대기 시간 안에 호출 권한을 얻지 못한 경우 발생 (업스트림 호출 없음)
+ */
+public class GeminiRateLimitExceededException extends RuntimeException {
+
+    public GeminiRateLimitExceededException(String message) {
+        super(message);
+    }
+}
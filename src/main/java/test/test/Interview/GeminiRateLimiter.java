@@ -0,0 +1,400 @@
+package test.test.Interview;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Gemini 호출 제한기
+ * 분당 요청 수(RPM)/분당 토큰 수(TPM) 토큰 버킷과 AIMD 방식의 적응형 동시 호출 한도를 함께 적용
+ * 429/5xx/타임아웃이 발생하면 한도를 곱셈으로 줄이고, 성공하면 덧셈으로 늘려 업스트림이 감당하는 최대 처리량을 추적
+ * 권한을 얻지 못한 호출은 FIFO 대기열에서 최대 대기 시간까지 기다린 뒤 GeminiRateLimitExceededException으로 실패 (대기열 길이 상한 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeminiRateLimiter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${google.gemini.limiter.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 분당 최대 요청 수
+     */
+    @Value("${google.gemini.limiter.requests-per-minute:300}")
+    private int requestsPerMinute;
+
+    /**
+     * 분당 최대 토큰 수 (입력 추정치 + 예상 출력 토큰 기준)
+     */
+    @Value("${google.gemini.limiter.tokens-per-minute:1000000}")
+    private long tokensPerMinute;
+
+    /**
+     * 호출당 예상 출력 토큰 수
+     */
+    @Value("${google.gemini.limiter.expected-output-tokens:1500}")
+    private int expectedOutputTokens;
+
+    @Value("${google.gemini.limiter.initial-concurrency:8}")
+    private int initialConcurrency;
+
+    @Value("${google.gemini.limiter.min-concurrency:1}")
+    private int minConcurrency;
+
+    @Value("${google.gemini.limiter.max-concurrency:64}")
+    private int maxConcurrency;
+
+    /**
+     * 과부하 신호 시 동시 호출 한도 감소 비율
+     */
+    @Value("${google.gemini.limiter.backoff-ratio:0.7}")
+    private double backoffRatio;
+
+    /**
+     * 권한 획득 최대 대기 시간
+     */
+    @Value("${google.gemini.limiter.max-wait:10s}")
+    private Duration maxWait;
+
+    /**
+     * 권한을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 거절)
+     */
+    @Value("${google.gemini.limiter.max-waiters:256}")
+    private int maxWaiters;
+
+    private double requestBucket;
+    private double tokenBucket;
+    private long lastRefillNanos;
+    private double concurrencyLimit;
+    private int inFlight;
+
+    /**
+     * 권한 대기열 (FIFO, 앞선 대기자가 권한을 얻기 전에는 뒤의 요청이 추월하지 않음)
+     */
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+    /**
+     * 버킷 충전 대기용 재확인 예약 여부
+     */
+    private boolean refillWakeupScheduled;
+
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        requestBucket = requestsPerMinute;
+        tokenBucket = tokensPerMinute;
+        lastRefillNanos = System.nanoTime();
+        concurrencyLimit = initialConcurrency;
+
+        Gauge.builder("gemini.limiter.concurrency.limit", this, limiter -> limiter.currentLimit())
+                .description("현재 적응형 동시 호출 한도")
+                .register(meterRegistry);
+        Gauge.builder("gemini.limiter.in.flight", this, limiter -> limiter.currentInFlight())
+                .description("진행 중인 Gemini 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("gemini.limiter.waiting", this, limiter -> limiter.currentWaiting())
+                .description("호출 권한을 기다리는 요청 수")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("gemini.limiter.rejected")
+                .description("대기 시간 초과 또는 대기열 초과로 거절된 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 단건 응답 호출에 제한 적용
+     *
+     * @param call 실제 Gemini 호출 (권한을 얻은 뒤 구독)
+     * @param promptLength 토큰 추정에 사용할 프롬프트 길이 (문자 수)
+     * @return 제한이 적용된 호출
+     */
+    public <T> Mono<T> limit(Mono<T> call, int promptLength) {
+        return limit(call, promptLength, maxWait);
+    }
+
+    /**
+     * 단건 응답 호출에 제한 적용 (호출별 응답 기한이 더 짧으면 그 안에서만 대기)
+     *
+     * @param call 실제 Gemini 호출 (권한을 얻은 뒤 구독)
+     * @param promptLength 토큰 추정에 사용할 프롬프트 길이 (문자 수)
+     * @param wait 권한 획득 최대 대기 시간 (설정된 max-wait보다 길면 max-wait 적용)
+     * @return 제한이 적용된 호출
+     */
+    public <T> Mono<T> limit(Mono<T> call, int promptLength, Duration wait) {
+        return limit(call.flux(), promptLength, wait).singleOrEmpty();
+    }
+
+    /**
+     * 스트리밍 호출에 제한 적용 (스트림이 끝날 때까지 동시 호출 한도를 점유)
+     * 권한 획득과 반납을 하나의 자원 수명으로 묶어, 호출 구독 전에 취소/타임아웃이 와도 권한이 반납되도록 함
+     *
+     * @param call 실제 Gemini 호출 (권한을 얻은 뒤 구독)
+     * @param promptLength 토큰 추정에 사용할 프롬프트 길이 (문자 수)
+     * @return 제한이 적용된 호출
+     */
+    public <T> Flux<T> limit(Flux<T> call, int promptLength) {
+        return limit(call, promptLength, maxWait);
+    }
+
+    private <T> Flux<T> limit(Flux<T> call, int promptLength, Duration wait) {
+        if (!enabled) {
+            return call;
+        }
+        long estimatedTokens = Math.min(tokensPerMinute, promptLength / 2 + expectedOutputTokens);
+
+        return Flux.usingWhen(acquire(estimatedTokens, wait.compareTo(maxWait) < 0 ? wait : maxWait),
+                permit -> call
+                        .doOnComplete(this::onSuccess)
+                        .doOnError(this::onError),
+                this::release,
+                (permit, error) -> release(permit),
+                this::release);
+    }
+
+    /**
+     * 권한 획득 (즉시 얻지 못하면 대기열 끝에 추가, maxWait 초과 또는 대기열 초과 시 실패)
+     */
+    private Mono<Permit> acquire(long estimatedTokens, Duration wait) {
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(estimatedTokens, sink);
+            // 권한을 받은 뒤 전달 전에 취소되면 sink가 값을 버리므로 취소 시점에 직접 반납
+            sink.onCancel(() -> cancel(waiter));
+            String rejection = null;
+            synchronized (this) {
+                refill();
+                if (waiter.cancelled) {
+                    return;
+                }
+                if (waiters.isEmpty() && canGrant(estimatedTokens)) {
+                    waiter.permit = grant(estimatedTokens);
+                } else if (waiters.size() >= maxWaiters) {
+                    rejection = "Gemini 호출 대기열이 가득 찼습니다 (" + maxWaiters + "건)";
+                } else {
+                    waiters.addLast(waiter);
+                    waiter.timeout = Schedulers.parallel().schedule(() -> expire(waiter, wait), wait.toNanos(), TimeUnit.NANOSECONDS);
+                    scheduleRefillWakeup();
+                }
+            }
+
+            if (rejection != null) {
+                rejectedCounter.increment();
+                sink.error(new GeminiRateLimitExceededException(rejection));
+                return;
+            }
+            if (waiter.permit != null) {
+                sink.success(waiter.permit);
+            }
+        });
+    }
+
+    /**
+     * 대기 시간 초과 처리 (아직 대기 중인 경우에만 실패 전달)
+     */
+    private void expire(Waiter waiter, Duration wait) {
+        synchronized (this) {
+            if (!waiters.remove(waiter)) {
+                return;
+            }
+        }
+        rejectedCounter.increment();
+        waiter.sink.error(new GeminiRateLimitExceededException("Gemini 호출 대기 시간을 초과했습니다 (" + wait.toMillis() + "ms)"));
+        // 큰 요청이 대기열 앞을 막고 있었다면 뒤의 요청이 진행할 수 있음
+        drain();
+    }
+
+    /**
+     * 구독 취소 처리 (대기 중이면 대기열에서 제거, 이미 권한을 받았으면 반납)
+     */
+    private void cancel(Waiter waiter) {
+        Permit permit;
+        synchronized (this) {
+            waiter.cancelled = true;
+            if (waiters.remove(waiter)) {
+                waiter.timeout.dispose();
+                permit = null;
+            } else {
+                permit = waiter.permit;
+            }
+        }
+        if (permit != null) {
+            permit.release();
+        } else {
+            drain();
+        }
+    }
+
+    /**
+     * 대기열 앞에서부터 권한을 줄 수 있는 만큼 부여 (앞선 대기자가 막혀 있으면 중단)
+     */
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            refill();
+            while (!waiters.isEmpty() && canGrant(waiters.peekFirst().estimatedTokens)) {
+                Waiter waiter = waiters.pollFirst();
+                waiter.timeout.dispose();
+                waiter.permit = grant(waiter.estimatedTokens);
+                granted.add(waiter);
+            }
+            scheduleRefillWakeup();
+        }
+        for (Waiter waiter : granted) {
+            waiter.sink.success(waiter.permit);
+        }
+    }
+
+    private boolean canGrant(long estimatedTokens) {
+        return inFlight < (int) concurrencyLimit && requestBucket >= 1 && tokenBucket >= estimatedTokens;
+    }
+
+    private Permit grant(long estimatedTokens) {
+        inFlight++;
+        requestBucket -= 1;
+        tokenBucket -= estimatedTokens;
+        return new Permit();
+    }
+
+    /**
+     * 대기열 앞 요청이 버킷 잔량 때문에 막혀 있으면 충전 예상 시점에 재확인 예약
+     * (동시 호출 한도로 막힌 경우는 권한 반납 시 재확인되므로 예약하지 않음)
+     */
+    private void scheduleRefillWakeup() {
+        if (refillWakeupScheduled || waiters.isEmpty() || inFlight >= (int) concurrencyLimit) {
+            return;
+        }
+        double requestDeficit = Math.max(0, 1 - requestBucket) / requestsPerMinute;
+        double tokenDeficit = Math.max(0, waiters.peekFirst().estimatedTokens - tokenBucket) / tokensPerMinute;
+        long delayMillis = Math.max(1, (long) Math.ceil(Math.max(requestDeficit, tokenDeficit) * 60_000));
+        refillWakeupScheduled = true;
+        Schedulers.parallel().schedule(() -> {
+            synchronized (this) {
+                refillWakeupScheduled = false;
+            }
+            drain();
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double elapsedMinutes = (now - lastRefillNanos) / 60_000_000_000.0;
+        lastRefillNanos = now;
+        requestBucket = Math.min(requestsPerMinute, requestBucket + elapsedMinutes * requestsPerMinute);
+        tokenBucket = Math.min(tokensPerMinute, tokenBucket + elapsedMinutes * tokensPerMinute);
+    }
+
+    private Mono<Void> release(Permit permit) {
+        return Mono.fromRunnable(permit::release);
+    }
+
+    /**
+     * 성공 시 한도를 덧셈으로 증가 (한도만큼 성공하면 1 증가)
+     */
+    private void onSuccess() {
+        synchronized (this) {
+            concurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + 1.0 / concurrencyLimit);
+        }
+        drain();
+    }
+
+    /**
+     * 과부하 신호(429/5xx/타임아웃) 시 한도를 곱셈으로 감소
+     */
+    private void onError(Throwable throwable) {
+        if (!isOverloadSignal(throwable)) {
+            return;
+        }
+        synchronized (this) {
+            double previous = concurrencyLimit;
+            concurrencyLimit = Math.max(minConcurrency, concurrencyLimit * backoffRatio);
+            log.warn("Gemini 과부하 감지, 동시 호출 한도 감소: {} -> {} ({})",
+                    String.format("%.1f", previous), String.format("%.1f", concurrencyLimit), throwable.getMessage());
+        }
+    }
+
+    /**
+     * 업스트림 과부하 신호인지 판단 (429/5xx/전송 계층 타임아웃)
+     */
+    static boolean isOverloadSignal(Throwable throwable) {
+        if (throwable instanceof GeminiApiException apiException) {
+            return apiException.getStatusCode() == 429 || apiException.getStatusCode() >= 500;
+        }
+        // 전송 계층별 타임아웃 (Reactor Netty ReadTimeoutException, JDK HttpTimeoutException)
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof HttpTimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized double currentLimit() {
+        return concurrencyLimit;
+    }
+
+    synchronized int currentInFlight() {
+        return inFlight;
+    }
+
+    synchronized int currentWaiting() {
+        return waiters.size();
+    }
+
+    /**
+     * 호출 권한 (여러 경로에서 반납되어도 한 번만 반영)
+     */
+    private final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            synchronized (GeminiRateLimiter.this) {
+                inFlight--;
+            }
+            drain();
+        }
+    }
+
+    /**
+     * 권한 대기자
+     */
+    private static final class Waiter {
+
+        private final long estimatedTokens;
+        private final MonoSink<Permit> sink;
+        private Disposable timeout;
+        private Permit permit;
+        private boolean cancelled;
+
+        Waiter(long estimatedTokens, MonoSink<Permit> sink) {
+            this.estimatedTokens = estimatedTokens;
+            this.sink = sink;
+        }
+    }
+}
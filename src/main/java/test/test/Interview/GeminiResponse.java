@@ -0,0 +1,137 @@
+package test.test.Interview;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Gemini generateContent 응답 (스트리밍 응답의 각 조각도 동일한 형태)
+ * 사용하는 필드만 선언하여 역직렬화 시 나머지 필드(safetyRatings, citationMetadata 등)는 트리로 만들지 않고 건너뜀
+ *
+ * @param candidates 생성 후보 목록 (프롬프트가 차단되면 비어 있음)
+ * @param promptFeedback 프롬프트 차단 정보
+ * @param usageMetadata 토큰 사용량
+ * @param modelVersion 응답한 모델 버전
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GeminiResponse(List<Candidate> candidates,
+                             PromptFeedback promptFeedback,
+                             UsageMetadata usageMetadata,
+                             String modelVersion) {
+
+    /**
+     * 정책 위반 등으로 생성이 중단된 종료 사유 (재시도해도 같은 결과)
+     */
+    private static final Set<String> BLOCKED_FINISH_REASONS =
+            Set.of("SAFETY", "RECITATION", "BLOCKLIST", "PROHIBITED_CONTENT", "SPII", "IMAGE_SAFETY");
+
+    /**
+     * 출력 토큰 한도에 도달해 잘린 응답의 종료 사유
+     */
+    public static final String FINISH_REASON_MAX_TOKENS = "MAX_TOKENS";
+
+    /**
+     * @param content 생성된 콘텐츠
+     * @param finishReason 종료 사유 (STOP, MAX_TOKENS, SAFETY 등, 스트리밍 중간 조각에서는 null)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Candidate(Content content, String finishReason) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Content(List<Part> parts) {
+    }
+
+    /**
+     * @param text 텍스트 파트
+     * @param thought 사고 과정 요약 파트 여부
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Part(String text, Boolean thought) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record PromptFeedback(String blockReason) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record UsageMetadata(Integer promptTokenCount,
+                                Integer candidatesTokenCount,
+                                Integer thoughtsTokenCount,
+                                Integer totalTokenCount) {
+    }
+
+    /**
+     * 첫 번째 후보의 텍스트 (사고 과정 파트 제외, 여러 파트는 이어 붙임)
+     *
+     * @return 생성된 텍스트 (스트리밍의 마지막 조각처럼 텍스트가 없으면 null)
+     */
+    public String text() {
+        Candidate candidate = firstCandidate();
+        if (candidate == null || candidate.content() == null || candidate.content().parts() == null) {
+            return null;
+        }
+        StringBuilder text = null;
+        for (Part part : candidate.content().parts()) {
+            if (part.text() == null || Boolean.TRUE.equals(part.thought())) {
+                continue;
+            }
+            if (text == null) {
+                text = new StringBuilder(part.text().length());
+            }
+            text.append(part.text());
+        }
+        return text != null ? text.toString() : null;
+    }
+
+    /**
+     * 첫 번째 후보의 종료 사유
+     */
+    public String finishReason() {
+        Candidate candidate = firstCandidate();
+        return candidate != null ? candidate.finishReason() : null;
+    }
+
+    /**
+     * 출력 토큰 한도로 잘린 응답인지 여부
+     */
+    public boolean isTruncated() {
+        return FINISH_REASON_MAX_TOKENS.equals(finishReason());
+    }
+
+    /**
+     * 프롬프트 또는 생성 결과가 차단되었으면 예외 발생
+     *
+     * @throws GeminiContentBlockedException 차단된 응답
+     */
+    public void checkBlocked() {
+        if (promptFeedback != null && promptFeedback.blockReason() != null) {
+            throw new GeminiContentBlockedException(promptFeedback.blockReason());
+        }
+        String finishReason = finishReason();
+        if (finishReason != null && BLOCKED_FINISH_REASONS.contains(finishReason)) {
+            throw new GeminiContentBlockedException(finishReason);
+        }
+    }
+
+    /**
+     * 차단 여부를 확인한 뒤 생성된 텍스트 반환
+     *
+     * @return 생성된 텍스트
+     * @throws GeminiContentBlockedException 차단된 응답
+     * @throws GeminiApiException 텍스트가 없는 응답
+     */
+    public String requireText() {
+        checkBlocked();
+        String text = text();
+        if (text == null) {
+            throw new GeminiApiException(200, "AI 응답에 텍스트가 없습니다: finishReason=" + finishReason());
+        }
+        return text;
+    }
+
+    private Candidate firstCandidate() {
+        return candidates != null && !candidates.isEmpty() ? candidates.get(0) : null;
+    }
+}
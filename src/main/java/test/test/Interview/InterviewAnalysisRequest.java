@@ -64,6 +64,11 @@ public class InterviewAnalysisRequest {
      */
     private String industry;
     
+    /**
+     * 빠른 응답 모드 (true면 Gemini를 호출하지 않고 질문 은행에서 가장 가까운 질문/학습 경로를 즉시 조립)
+     */
+    private boolean fastMode;
+    
     /**
      * 모든 기술 스킬을 하나의 문자열로 결합
      * @return 결합된 기술 스킬 문자열
@@ -14,7 +14,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class InterviewAnalysisResponse {
     
     /**
@@ -90,7 +90,7 @@ public class InterviewAnalysisResponse {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class AnalysisMetadata {
         
         /**
@@ -98,6 +98,36 @@ public class InterviewAnalysisResponse {
          */
         private Long processingTimeMs;
         
+        /**
+         * 면접 질문 생성 소요 시간 (밀리초)
+         */
+        private Long questionGenerationTimeMs;
+        
+        /**
+         * 학습 경로 생성 소요 시간 (밀리초)
+         */
+        private Long learningPathGenerationTimeMs;
+        
+        /**
+         * 기본 콘텐츠로 대체된 항목이 있는지 여부 (타임아웃/AI 호출 실패)
+         */
+        private Boolean degraded;
+        
+        /**
+         * 기본 콘텐츠로 대체된 원인 (degraded일 때만 설정)
+         */
+        private DegradedReason degradedReason;
+        
+        /**
+         * 결과 캐시에서 제공된 응답인지 여부
+         */
+        private Boolean cached;
+        
+        /**
+         * 질문 은행에서 조립된 응답인지 여부 (fastMode 요청)
+         */
+        private Boolean fastMode;
+        
         /**
          * 사용된 AI 모델 정보
          */
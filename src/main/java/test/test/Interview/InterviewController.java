@@ -3,8 +3,17 @@ package test.test.Interview;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
 
 
 /**
@@ -19,57 +28,147 @@ public class InterviewController {
     
     private final InterviewService interviewService;
     
+    private final BatchAnalysisService batchAnalysisService;
+    
+    private final AnalysisJobService analysisJobService;
+    
+    private final AnalysisAdmissionControl admissionControl;
+    
     /**
      * AI 기반 면접 분석 엔드포인트
      * 사용자의 이력서 정보를 바탕으로 맞춤형 면접 질문과 학습 경로를 생성
+     * Mono를 그대로 반환하여 Gemini 응답 대기 중 요청 스레드를 점유하지 않음
+     * 과부하 시에는 분석을 시작하지 않고 즉시 503과 Retry-After로 응답 (AnalysisAdmissionControl)
+     * 진입 허가는 Gemini 분석을 새로 시작하는 요청만 받음 (캐시 적중, fastMode, 진행 중인 같은 프로필 분석 합류는 제외)
      * 
      * @param request 사용자 이력서 정보
      * @return 면접 질문 및 학습 경로 응답
      */
     @PostMapping("/analyze")
-    public ResponseEntity<InterviewAnalysisResponse> analyzeProfile(
+    public Mono<ResponseEntity<InterviewAnalysisResponse>> analyzeProfile(
             @Valid @RequestBody InterviewAnalysisRequest request) {
         
         log.info("면접 분석 요청 수신: 직무={}, 경력={}", request.getPosition(), request.getExperience());
         
-        try {
-            // Mono를 block()으로 동기 처리
-            InterviewAnalysisResponse response = interviewService.analyzeProfile(request).block();
-            
-            if (response != null && response.isSuccess()) {
-                log.info("=== 면접 분석 성공 ===");
-                log.info("질문 개수: {}", response.getInterviewQuestions() != null ? response.getInterviewQuestions().size() : 0);
-                log.info("학습 경로 길이: {}자", response.getLearningPath() != null ? response.getLearningPath().length() : 0);
-                log.info("응답 객체: {}", response);
-                
-                if (response.getInterviewQuestions() != null) {
-                    for (int i = 0; i < response.getInterviewQuestions().size(); i++) {
-                        log.info("질문 {}: {}", i+1, response.getInterviewQuestions().get(i));
+        return interviewService.analyzeProfile(request, true)
+                .map(response -> {
+                    if (response.isSuccess()) {
+                        // 생성 결과 요약/페이로드는 InterviewService와 AnalysisPayloadLogger에서 샘플링하여 기록
+                        return ResponseEntity.ok()
+                                .header("Content-Type", "application/json; charset=UTF-8")
+                                .body(response);
                     }
-                }
-                
-                log.info("=== ResponseEntity 생성 전 마지막 체크 ===");
-                log.info("response 객체 존재: {}", response != null);
-                log.info("JSON 직렬화 테스트: {}", response.toString());
-                
-                return ResponseEntity.ok()
-                        .header("Content-Type", "application/json; charset=UTF-8")
-                        .body(response);
-            } else {
-                String errorMsg = response != null ? response.getErrorMessage() : "응답이 null입니다";
-                log.error("면접 분석 실패: {}", errorMsg);
-                InterviewAnalysisResponse errorResponse = InterviewAnalysisResponse.failure(errorMsg);
-                return ResponseEntity.badRequest().body(errorResponse);
-            }
-        } catch (Exception e) {
-            log.error("면접 분석 중 예외 발생", e);
-            InterviewAnalysisResponse errorResponse = InterviewAnalysisResponse.failure(
-                    "서버 내부 오류가 발생했습니다: " + e.getMessage()
-            );
-            return ResponseEntity.internalServerError().body(errorResponse);
+                    
+                    log.error("면접 분석 실패: {}", response.getErrorMessage());
+                    InterviewAnalysisResponse errorResponse = InterviewAnalysisResponse.failure(response.getErrorMessage());
+                    return ResponseEntity.badRequest().body(errorResponse);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.error("면접 분석 실패: 응답이 null입니다");
+                    return ResponseEntity.badRequest().body(InterviewAnalysisResponse.failure("응답이 null입니다"));
+                }))
+                .onErrorResume(AnalysisRejectedException.class, e -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(e))
+                        .body(InterviewAnalysisResponse.failure(e.getMessage()))))
+                .onErrorResume(e -> {
+                    log.error("면접 분석 중 예외 발생", e);
+                    InterviewAnalysisResponse errorResponse = InterviewAnalysisResponse.failure(
+                            "서버 내부 오류가 발생했습니다: " + e.getMessage()
+                    );
+                    return Mono.just(ResponseEntity.internalServerError().body(errorResponse));
+                });
+    }
+    
+    /**
+     * AI 기반 면접 분석 스트리밍 엔드포인트 (Server-Sent Events)
+     * 질문과 학습 경로를 Gemini가 생성하는 대로 전송하여 첫 응답까지의 대기 시간 단축
+     * 
+     * @param request 사용자 이력서 정보
+     * @return question / learning-path / done 이벤트 스트림 (과부하 시 503과 Retry-After)
+     */
+    @PostMapping(value = "/analyze/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<Object>>> analyzeProfileStream(
+            @Valid @RequestBody InterviewAnalysisRequest request) {
+        
+        log.info("면접 분석 스트리밍 요청 수신: 직무={}, 경력={}", request.getPosition(), request.getExperience());
+        
+        AnalysisAdmissionControl.Permit permit;
+        try {
+            permit = admissionControl.acquire();
+        } catch (AnalysisRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(e))
+                    .build();
+        }
+        
+        return ResponseEntity.ok(interviewService.streamAnalysis(request).doFinally(signal -> permit.release()));
+    }
+    
+    /**
+     * 일괄 면접 분석 엔드포인트 (JSON 배열 입력)
+     * 제한된 동시성으로 분석하고 결과는 완료되는 대로 NDJSON으로 전송 (NDJSON 입력은 BatchNdjsonController 참고)
+     * 항목별 Bean Validation은 BatchAnalysisService에서 수행 (목록 전체에 @Valid를 걸면 한 항목의 위반으로 전체가 400이 되므로)
+     * 
+     * @param requests 사용자 이력서 정보 목록
+     * @return 완료 순서대로의 분석 결과
+     */
+    @PostMapping(value = "/analyze/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BatchAnalysisResult> analyzeBatch(@RequestBody List<InterviewAnalysisRequest> requests) {
+        log.info("일괄 분석 요청 수신: {}건", requests.size());
+        return batchAnalysisService.analyzeAll(requests);
+    }
+    
+    /**
+     * 비동기 분석 작업 접수 엔드포인트
+     * 요청을 우선순위 큐에 넣고 즉시 작업 ID를 반환하며, 결과는 조회 또는 이벤트 스트림으로 확인
+     * 
+     * @param request 사용자 이력서 정보
+     * @return 202 Accepted와 접수된 작업 (큐가 가득 차면 503과 Retry-After)
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<AnalysisJobResponse> submitJob(@Valid @RequestBody InterviewAnalysisRequest request) {
+        log.info("비동기 분석 작업 요청 수신: 직무={}, 경력={}", request.getPosition(), request.getExperience());
+        
+        try {
+            AnalysisJobResponse job = analysisJobService.submit(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/interview/jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (AnalysisRejectedException e) {
+            log.warn("비동기 분석 작업 거절: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(e))
+                    .build();
         }
     }
     
+    /**
+     * 비동기 분석 작업 조회 엔드포인트
+     * 
+     * @param jobId 작업 ID
+     * @return 작업 상태와 결과 (없거나 보관 기간이 지났으면 404)
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<AnalysisJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.of(analysisJobService.find(jobId));
+    }
+    
+    /**
+     * 비동기 분석 작업 이벤트 스트림 (Server-Sent Events)
+     * 현재 상태부터 상태가 바뀔 때마다 전송하고, completed/failed 이벤트 후 종료
+     * 
+     * @param jobId 작업 ID
+     * @return queued / running / completed / failed 이벤트 스트림 (없거나 보관 기간이 지났으면 404)
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<AnalysisJobResponse>>> watchJob(@PathVariable String jobId) {
+        return ResponseEntity.of(analysisJobService.watch(jobId)
+                .map(updates -> updates.map(job -> ServerSentEvent.builder(job)
+                        .id(job.getJobId() + "-" + job.getStatus().name().toLowerCase())
+                        .event(job.getStatus().name().toLowerCase())
+                        .build())));
+    }
+    
     /**
      * 서비스 상태 확인 엔드포인트
      * 
@@ -87,15 +186,14 @@ public class InterviewController {
      * @return 사용 중인 AI 모델 정보
      */
     @GetMapping("/model-info")
-    public ResponseEntity<String> getModelInfo() {
-        try {
-            String modelInfo = interviewService.getModelInfo().block();
-            return ResponseEntity.ok(modelInfo);
-        } catch (Exception e) {
-            log.error("모델 정보 조회 실패", e);
-            return ResponseEntity.internalServerError()
-                    .body("모델 정보 조회에 실패했습니다: " + e.getMessage());
-        }
+    public Mono<ResponseEntity<String>> getModelInfo() {
+        return interviewService.getModelInfo()
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.error("모델 정보 조회 실패", e);
+                    return Mono.just(ResponseEntity.internalServerError()
+                            .body("모델 정보 조회에 실패했습니다: " + e.getMessage()));
+                });
     }
     
     /**
@@ -106,23 +204,27 @@ public class InterviewController {
      * @return 샘플 면접 질문 리스트
      */
     @GetMapping("/sample-questions")
-    public ResponseEntity<InterviewAnalysisResponse> getSampleQuestions(
+    public Mono<ResponseEntity<InterviewAnalysisResponse>> getSampleQuestions(
             @RequestParam String position,
             @RequestParam(defaultValue = "신입") String experience) {
         
         log.info("샘플 면접 질문 요청: 직무={}, 경력={}", position, experience);
         
-        try {
-            InterviewAnalysisResponse response = interviewService.generateSampleQuestions(position, experience).block();
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("샘플 질문 생성 실패", e);
-            InterviewAnalysisResponse errorResponse = InterviewAnalysisResponse.failure(
-                    "샘플 질문 생성에 실패했습니다: " + e.getMessage()
-            );
-            return ResponseEntity.internalServerError().body(errorResponse);
-        }
+        return interviewService.generateSampleQuestions(position, experience)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.error("샘플 질문 생성 실패", e);
+                    InterviewAnalysisResponse errorResponse = InterviewAnalysisResponse.failure(
+                            "샘플 질문 생성에 실패했습니다: " + e.getMessage()
+                    );
+                    return Mono.just(ResponseEntity.internalServerError().body(errorResponse));
+                });
     }
     
-
-}
\ No newline at end of file
+    /**
+     * Retry-After 헤더 값 (초 단위, 최소 1초)
+     */
+    private static String retryAfterSeconds(AnalysisRejectedException e) {
+        return String.valueOf(Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000));
+    }
+}
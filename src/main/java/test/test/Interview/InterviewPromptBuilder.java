@@ -0,0 +1,43 @@
+package test.test.Interview;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Gemini 프롬프트 구성기
+ * 구직자 프로필을 면접 질문/학습 경로/단일 호출(COMBINED) 프롬프트로 변환
+ * 프롬프트 본문은 PromptTemplates의 템플릿 파일에서 가져오며, 프로필은 {{profile}} 슬롯에 채움
+ */
+@Component
+@RequiredArgsConstructor
+public class InterviewPromptBuilder {
+
+    private final PromptTemplates templates;
+
+    /**
+     * 면접 질문 생성을 위한 프롬프트 구성
+     */
+    public GeminiPrompt buildInterviewQuestionPrompt(InterviewAnalysisRequest request) {
+        return bind(PromptTemplates.INTERVIEW_QUESTIONS, request);
+    }
+
+    /**
+     * 학습 경로 생성을 위한 프롬프트 구성
+     */
+    public GeminiPrompt buildLearningPathPrompt(InterviewAnalysisRequest request) {
+        return bind(PromptTemplates.LEARNING_PATH, request);
+    }
+
+    /**
+     * 단일 호출(COMBINED) 모드 프롬프트 구성
+     */
+    public GeminiPrompt buildCombinedPrompt(InterviewAnalysisRequest request) {
+        return bind(PromptTemplates.COMBINED, request);
+    }
+
+    private GeminiPrompt bind(String templateName, InterviewAnalysisRequest request) {
+        return templates.get(templateName).bind(Map.of(PromptTemplates.PROFILE_SLOT, request.getFullProfile()));
+    }
+}
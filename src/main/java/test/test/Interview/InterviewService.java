@@ -1,17 +1,28 @@
 package test.test.Interview;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.HtmlUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 면접 분석 서비스
@@ -22,213 +33,480 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class InterviewService {
     
-    private final WebClient webClient;
+    private final GeminiClient geminiClient;
     
-    @Value("${google.gemini.api.key}")
-    private String geminiApiKey;
+    private final ObjectMapper objectMapper;
+    
+    private final InterviewPromptBuilder promptBuilder;
+    
+    private final GeminiRateLimiter rateLimiter;
+    
+    private final GeminiHedgingPolicy hedgingPolicy;
+    
+    private final GeminiCircuitBreaker circuitBreaker;
+    
+    private final AnalysisResultCache resultCache;
+    
+    private final QuestionExtractor questionExtractor;
+    
+    private final MarkdownHtmlRenderer markdownRenderer;
+    
+    private final AnalysisPayloadLogger payloadLogger;
+    
+    private final AnalysisMetrics metrics;
+    
+    private final QuestionBank questionBank;
+    
+    private final SkillDictionary skillDictionary;
+    
+    private final AnalysisAdmissionControl admissionControl;
+    
+    private final SingleFlight<InterviewAnalysisResponse> inFlightAnalyses = new SingleFlight<>();
+    
+    private static final int QUESTION_COUNT = 5;
+    
+    /**
+     * 메타데이터 키워드에 포함할 최대 기술 스킬 수
+     */
+    private static final int MAX_SKILL_KEYWORDS = 10;
 
-    private static final String GEMINI_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.5-flash:generateContent";
+    /**
+     * 분석 실행 모드 (PARALLEL: 동시 호출, SEQUENTIAL: 순차 호출)
+     */
+    @Value("${interview.analysis.mode:PARALLEL}")
+    private AnalysisMode analysisMode;
+    
+    /**
+     * 면접 질문 생성 타임아웃 (초과 시 기본 질문으로 대체)
+     */
+    @Value("${interview.analysis.question-timeout:30s}")
+    private Duration questionTimeout;
+    
+    /**
+     * 학습 경로 생성 타임아웃 (초과 시 기본 학습 경로로 대체)
+     */
+    @Value("${interview.analysis.learning-path-timeout:45s}")
+    private Duration learningPathTimeout;
     
     /**
      * 사용자 프로필 분석 및 맞춤형 면접 콘텐츠 생성
+     * PARALLEL 모드에서는 면접 질문/학습 경로 호출을 동시에 시작하고 결과를 합류시킴
+     * 동일한 프로필(정규화 기준)의 성공 결과가 캐시에 있으면 Gemini 호출 없이 반환하고,
+     * 동시에 들어온 동일 프로필 요청은 하나의 Gemini 호출 결과를 공유
+     * fastMode 요청은 캐시 미스 시 Gemini를 호출하지 않고 질문 은행에서 응답을 조립
      * 
      * @param request 사용자 이력서 정보
      * @return 면접 질문 및 학습 경로 응답
      */
     public Mono<InterviewAnalysisResponse> analyzeProfile(InterviewAnalysisRequest request) {
+        return analyzeProfile(request, false);
+    }
+    
+    /**
+     * 사용자 프로필 분석 (진입 제어 적용 여부 지정)
+     * 진입 제어를 적용하면 Gemini 분석을 새로 시작하는 요청만 허가를 받고,
+     * 캐시 적중, fastMode, 진행 중인 같은 프로필 분석에 합류한 요청은 허가 없이 처리
+     * 
+     * @param request 사용자 이력서 정보
+     * @param admissionControlled 새 분석 시작 시 AnalysisAdmissionControl 허가를 받을지 여부
+     * @return 면접 질문 및 학습 경로 응답 (허가를 얻지 못하면 AnalysisRejectedException으로 실패)
+     */
+    public Mono<InterviewAnalysisResponse> analyzeProfile(InterviewAnalysisRequest request, boolean admissionControlled) {
+        String cacheKey = ProfileFingerprint.of(request);
+        InterviewAnalysisResponse cached = resultCache.get(cacheKey);
+        if (cached != null) {
+            log.info("분석 결과 캐시 적중: key={}", cacheKey);
+            return Mono.just(cached);
+        }
+        
+        if (request.isFastMode()) {
+            return Mono.fromSupplier(() -> answerFromBank(request));
+        }
+        
+        // 같은 프로필의 분석이 진행 중이면 새 Gemini 호출 없이 그 결과를 함께 기다림 (허가는 분석을 시작한 요청만 보유)
+        return inFlightAnalyses.join(cacheKey, () -> {
+            Mono<InterviewAnalysisResponse> analysis = analyzeUncached(request)
+                    .doOnNext(response -> resultCache.put(cacheKey, response));
+            return admissionControlled ? admissionControl.admit(analysis) : analysis;
+        });
+    }
+    
+    /**
+     * 캐시를 거치지 않고 Gemini 호출로 분석 수행
+     * 소요 시간은 진입 제어의 평균 분석 시간(EWMA)에 반영 (같은 프로필을 함께 기다린 요청은 한 번만 반영)
+     */
+    private Mono<InterviewAnalysisResponse> analyzeUncached(InterviewAnalysisRequest request) {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         
-        return generateInterviewQuestions(request)
-                .flatMap(questions -> {
-                    log.info("=== 면접 질문 생성 완료 ===");
-                    log.info("생성된 질문 수: {}", questions.size());
-                    questions.forEach(q -> log.info("질문: {}", q));
-                    
-                    return generateLearningPath(request)
-                            .map(learningPath -> {
-                                log.info("=== 학습 경로 생성 완료 ===");
-                                log.info("학습 경로 길이: {}자", learningPath.length());
-                                log.info("학습 경로 내용: {}", learningPath.substring(0, Math.min(200, learningPath.length())) + "...");
-                                
-                                long processingTime = System.currentTimeMillis() - startTime;
-                                
-                                InterviewAnalysisResponse.AnalysisMetadata metadata = 
-                                        InterviewAnalysisResponse.AnalysisMetadata.builder()
-                                                .processingTimeMs(processingTime)
-                                                .aiModel("Google Gemini 2.5 Flash")
-                                                .qualityScore(calculateQualityScore(request))
-                                                .analysisTimestamp(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
-                                                .priority(determinePriority(request))
-                                                .extractedKeywords(extractKeywords(request))
-                                                .build();
-                                
-                                InterviewAnalysisResponse response = InterviewAnalysisResponse.success(questions, learningPath, metadata);
-                                log.info("=== 최종 응답 객체 생성 완료 ===");
-                                log.info("Success: {}", response.isSuccess());
-                                log.info("질문 리스트 크기: {}", response.getInterviewQuestions().size());
-                                log.info("학습 경로 존재 여부: {}", response.getLearningPath() != null);
-                                
-                                return response;
-                            });
-                })
+        Mono<Tuple2<BranchResult<List<String>>, BranchResult<String>>> branches = switch (analysisMode) {
+            case PARALLEL -> Mono.zip(generateInterviewQuestions(request), generateLearningPath(request));
+            case SEQUENTIAL -> generateInterviewQuestions(request).zipWhen(questions -> generateLearningPath(request));
+            case COMBINED -> generateCombined(request);
+        };
+        
+        return branches
+                .map(results -> buildResponse(request, results.getT1(), results.getT2(), startTime))
+                .doOnNext(response -> admissionControl.recordLatency(System.nanoTime() - startNanos))
                 .onErrorResume(throwable -> {
                     log.error("프로필 분석 중 오류 발생", throwable);
                     return Mono.just(InterviewAnalysisResponse.failure("분석 처리 중 오류가 발생했습니다: " + throwable.getMessage()));
                 });
     }
     
+    /**
+     * 각 분기 결과를 합쳐 최종 응답 생성
+     */
+    private InterviewAnalysisResponse buildResponse(InterviewAnalysisRequest request,
+                                                    BranchResult<List<String>> questionResult,
+                                                    BranchResult<String> learningPathResult,
+                                                    long startTime) {
+        List<String> questions = questionResult.value();
+        String learningPath = learningPathResult.value();
+        
+        long processingTime = System.currentTimeMillis() - startTime;
+        
+        InterviewAnalysisResponse.AnalysisMetadata metadata = 
+                InterviewAnalysisResponse.AnalysisMetadata.builder()
+                        .processingTimeMs(processingTime)
+                        .questionGenerationTimeMs(questionResult.elapsedMs())
+                        .learningPathGenerationTimeMs(learningPathResult.elapsedMs())
+                        .degraded(questionResult.fallback() || learningPathResult.fallback())
+                        .degradedReason(questionResult.fallback() ? questionResult.degradedReason() : learningPathResult.degradedReason())
+                        .aiModel("Google Gemini 2.5 Flash")
+                        .qualityScore(calculateQualityScore(request))
+                        .analysisTimestamp(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                        .priority(determinePriority(request).name())
+                        .extractedKeywords(extractKeywords(request))
+                        .build();
+        
+        InterviewAnalysisResponse response = InterviewAnalysisResponse.success(questions, learningPath, metadata);
+        questionBank.record(request,
+                questionResult.fallback() ? List.of() : questions,
+                learningPathResult.fallback() ? null : learningPath);
+        log.info("분석 완료: 질문 {}개 ({}ms), 학습 경로 {}자 ({}ms), 총 {}ms, degraded={}",
+                questions.size(), questionResult.elapsedMs(), learningPath.length(), learningPathResult.elapsedMs(),
+                processingTime, metadata.getDegraded());
+        payloadLogger.logResponse(request, response);
+        
+        return response;
+    }
+    
     /**
      * Gemini API를 사용하여 맞춤형 면접 질문 생성
+     * 타임아웃 또는 오류 시 기본 질문으로 대체
      * 
      * @param request 사용자 이력서 정보
-     * @return 면접 질문 리스트
+     * @return 면접 질문 리스트와 소요 시간
      */
-    private Mono<List<String>> generateInterviewQuestions(InterviewAnalysisRequest request) {
-        String prompt = buildInterviewQuestionPrompt(request);
-        
-        return callGeminiAPI(prompt)
-                .map(this::parseInterviewQuestions)
-                .onErrorResume(throwable -> {
-                    log.error("면접 질문 생성 실패", throwable);
-                    return Mono.just(getDefaultQuestions(request.getPosition()));
-                });
+    private Mono<BranchResult<List<String>>> generateInterviewQuestions(InterviewAnalysisRequest request) {
+        return Mono.defer(() -> {
+            long branchStart = System.nanoTime();
+            GeminiPrompt prompt = metrics.timePrompt(GeminiCallType.QUESTIONS, () -> promptBuilder.buildInterviewQuestionPrompt(request));
+            
+            return callGeminiAPI(GeminiCallType.QUESTIONS, prompt, questionTimeout)
+                    .map(this::parseInterviewQuestions)
+                    .map(questions -> BranchResult.of(questions, branchStart))
+                    .onErrorResume(throwable -> {
+                        logFallback("면접 질문 생성 실패", throwable);
+                        metrics.recordFallback(GeminiCallType.QUESTIONS, DegradedReason.of(throwable));
+                        return Mono.just(BranchResult.fallback(fallbackQuestions(request), branchStart, throwable));
+                    });
+        });
     }
     
     /**
      * Gemini API를 사용하여 개인 맞춤형 학습 경로 생성
+     * 타임아웃 또는 오류 시 기본 학습 경로로 대체
+     * 
+     * @param request 사용자 이력서 정보
+     * @return 학습 경로 HTML 문자열과 소요 시간
+     */
+    private Mono<BranchResult<String>> generateLearningPath(InterviewAnalysisRequest request) {
+        return Mono.defer(() -> {
+            long branchStart = System.nanoTime();
+            GeminiPrompt prompt = metrics.timePrompt(GeminiCallType.LEARNING_PATH, () -> promptBuilder.buildLearningPathPrompt(request));
+            
+            return callGeminiAPI(GeminiCallType.LEARNING_PATH, prompt, learningPathTimeout)
+                    .map(this::formatLearningPathAsHTML)
+                    .map(learningPath -> BranchResult.of(learningPath, branchStart))
+                    .onErrorResume(throwable -> {
+                        logFallback("학습 경로 생성 실패", throwable);
+                        metrics.recordFallback(GeminiCallType.LEARNING_PATH, DegradedReason.of(throwable));
+                        return Mono.just(BranchResult.fallback(fallbackLearningPath(request), branchStart, throwable));
+                    });
+        });
+    }
+    
+    /**
+     * 단일 Gemini 호출로 면접 질문과 학습 경로를 함께 생성 (COMBINED 모드)
+     * 응답 스키마로 강제한 JSON을 CombinedAnalysisResult로 바로 역직렬화하므로 텍스트 파싱이 필요 없음
      * 
      * @param request 사용자 이력서 정보
-     * @return 학습 경로 HTML 문자열
+     * @return 면접 질문/학습 경로 결과 (두 결과의 소요 시간은 동일)
+     */
+    private Mono<Tuple2<BranchResult<List<String>>, BranchResult<String>>> generateCombined(InterviewAnalysisRequest request) {
+        return Mono.defer(() -> {
+            long branchStart = System.nanoTime();
+            GeminiPrompt prompt = metrics.timePrompt(GeminiCallType.COMBINED, () -> promptBuilder.buildCombinedPrompt(request));
+            Duration timeout = questionTimeout.compareTo(learningPathTimeout) > 0 ? questionTimeout : learningPathTimeout;
+            
+            return callGeminiAPI(GeminiCallType.COMBINED, prompt, CombinedAnalysisResult.GENERATION_CONFIG, timeout)
+                    .map(json -> metrics.timeParse(GeminiCallType.COMBINED, () -> {
+                        try {
+                            return objectMapper.readValue(json, CombinedAnalysisResult.class);
+                        } catch (JsonProcessingException e) {
+                            throw new GeminiApiException(200, "구조화 응답 역직렬화 실패", e);
+                        }
+                    }))
+                    .map(result -> Tuples.of(
+                            BranchResult.of(normalizeQuestions(result.getQuestions()), branchStart),
+                            BranchResult.of(metrics.timeFormat(GeminiCallType.COMBINED,
+                                    () -> formatSectionsAsHTML(result.getLearningPath())), branchStart)))
+                    .onErrorResume(throwable -> {
+                        logFallback("구조화 분석 생성 실패", throwable);
+                        metrics.recordFallback(GeminiCallType.COMBINED, DegradedReason.of(throwable));
+                        return Mono.just(Tuples.of(
+                                BranchResult.fallback(fallbackQuestions(request), branchStart, throwable),
+                                BranchResult.fallback(fallbackLearningPath(request), branchStart, throwable)));
+                    });
+        });
+    }
+    
+    /**
+     * 분기별 생성 결과
+     * 
+     * @param value 생성 결과 (또는 대체 콘텐츠)
+     * @param elapsedMs 분기 소요 시간 (밀리초)
+     * @param degradedReason 기본 콘텐츠로 대체된 원인 (정상 생성 시 null)
      */
-    private Mono<String> generateLearningPath(InterviewAnalysisRequest request) {
-        String prompt = buildLearningPathPrompt(request);
+    private record BranchResult<T>(T value, long elapsedMs, DegradedReason degradedReason) {
         
-        return callGeminiAPI(prompt)
-                .map(this::formatLearningPathAsHTML)
-                .onErrorResume(throwable -> {
-                    log.error("학습 경로 생성 실패", throwable);
-                    return Mono.just(getDefaultLearningPath(request.getPosition()));
-                });
+        static <T> BranchResult<T> of(T value, long startNanos) {
+            return new BranchResult<>(value, (System.nanoTime() - startNanos) / 1_000_000, null);
+        }
+        
+        static <T> BranchResult<T> fallback(T value, long startNanos, Throwable cause) {
+            return new BranchResult<>(value, (System.nanoTime() - startNanos) / 1_000_000, DegradedReason.of(cause));
+        }
+        
+        boolean fallback() {
+            return degradedReason != null;
+        }
+    }
+    
+    /**
+     * 대체 콘텐츠 전환 로그
+     * 서킷이 열린 상태의 즉시 실패는 예상된 동작이므로 스택 트레이스 없이 경고로만 기록
+     */
+    private static void logFallback(String message, Throwable throwable) {
+        if (throwable instanceof CallNotPermittedException) {
+            log.warn("{}: Gemini 서킷 브레이커 열림, 기본 콘텐츠로 대체", message);
+        } else {
+            log.error(message, throwable);
+        }
+    }
+    
+    /**
+     * 사용자 프로필 분석 결과를 SSE 이벤트로 스트리밍
+     * 면접 질문은 파싱되는 즉시 question 이벤트로, 학습 경로는 섹션(## 헤딩) 단위 HTML로 learning-path 이벤트로 전송하고
+     * 마지막에 메타데이터를 담은 done 이벤트 전송 (끝까지 완료된 스트림의 소요 시간만 진입 제어 EWMA에 반영)
+     * 
+     * @param request 사용자 이력서 정보
+     * @return SSE 이벤트 스트림
+     */
+    public Flux<ServerSentEvent<Object>> streamAnalysis(InterviewAnalysisRequest request) {
+        return Flux.defer(() -> {
+            long startTime = System.currentTimeMillis();
+            long startNanos = System.nanoTime();
+            AtomicInteger questionCount = new AtomicInteger();
+            AtomicInteger sectionCount = new AtomicInteger();
+            AtomicReference<DegradedReason> degradedReason = new AtomicReference<>();
+            AtomicLong questionTimeMs = new AtomicLong();
+            AtomicLong learningPathTimeMs = new AtomicLong();
+            
+            QuestionExtractor.Session extraction = questionExtractor.newSession(QUESTION_COUNT);
+            GeminiPrompt questionPrompt = metrics.timePrompt(GeminiCallType.QUESTIONS, () -> promptBuilder.buildInterviewQuestionPrompt(request));
+            GeminiPrompt learningPathPrompt = metrics.timePrompt(GeminiCallType.LEARNING_PATH, () -> promptBuilder.buildLearningPathPrompt(request));
+            
+            Flux<ServerSentEvent<Object>> questionEvents = streamGeminiAPI(GeminiCallType.QUESTIONS, questionPrompt)
+                    .concatMapIterable(extraction::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(extraction.finish())))
+                    .take(QUESTION_COUNT)
+                    .onErrorResume(throwable -> {
+                        logFallback("면접 질문 스트리밍 실패", throwable);
+                        metrics.recordFallback(GeminiCallType.QUESTIONS, DegradedReason.of(throwable));
+                        degradedReason.compareAndSet(null, DegradedReason.of(throwable));
+                        return questionCount.get() == 0 ? Flux.fromIterable(fallbackQuestions(request)) : Flux.empty();
+                    })
+                    .map(question -> {
+                        int index = questionCount.incrementAndGet();
+                        return ServerSentEvent.<Object>builder()
+                                .event("question")
+                                .id("question-" + index)
+                                .data(Map.of("index", index, "question", question))
+                                .build();
+                    })
+                    .doOnComplete(() -> questionTimeMs.set(System.currentTimeMillis() - startTime));
+            
+            Flux<ServerSentEvent<Object>> learningPathEvents = renderSections(streamGeminiAPI(GeminiCallType.LEARNING_PATH, learningPathPrompt))
+                    .filter(html -> !html.isBlank())
+                    .onErrorResume(throwable -> {
+                        logFallback("학습 경로 스트리밍 실패", throwable);
+                        metrics.recordFallback(GeminiCallType.LEARNING_PATH, DegradedReason.of(throwable));
+                        degradedReason.compareAndSet(null, DegradedReason.of(throwable));
+                        return sectionCount.get() == 0 ? Flux.just(fallbackLearningPath(request)) : Flux.empty();
+                    })
+                    .map(html -> ServerSentEvent.<Object>builder()
+                            .event("learning-path")
+                            .id("learning-path-" + sectionCount.incrementAndGet())
+                            .data(html)
+                            .build())
+                    .doOnComplete(() -> learningPathTimeMs.set(System.currentTimeMillis() - startTime));
+            
+            Mono<ServerSentEvent<Object>> doneEvent = Mono.fromSupplier(() -> ServerSentEvent.<Object>builder()
+                    .event("done")
+                    .data(InterviewAnalysisResponse.AnalysisMetadata.builder()
+                            .processingTimeMs(System.currentTimeMillis() - startTime)
+                            .questionGenerationTimeMs(questionTimeMs.get())
+                            .learningPathGenerationTimeMs(learningPathTimeMs.get())
+                            .degraded(degradedReason.get() != null)
+                            .degradedReason(degradedReason.get())
+                            .aiModel("Google Gemini 2.5 Flash")
+                            .qualityScore(calculateQualityScore(request))
+                            .analysisTimestamp(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                            .priority(determinePriority(request).name())
+                            .extractedKeywords(extractKeywords(request))
+                            .build())
+                    .build());
+            
+            return Flux.merge(questionEvents, learningPathEvents).concatWith(doneEvent)
+                    .doOnComplete(() -> admissionControl.recordLatency(System.nanoTime() - startNanos));
+        });
+    }
+    
+    /**
+     * 스트리밍 마크다운 조각을 HTML로 변환하여 섹션(#, ## 헤딩) 단위로 방출
+     * 섹션이 완성되는 즉시 방출하고, 마지막 섹션은 스트림 종료 시 방출
+     */
+    private Flux<String> renderSections(Flux<String> chunks) {
+        return Flux.defer(() -> {
+            StringBuilder html = new StringBuilder();
+            List<String> sections = new ArrayList<>();
+            Runnable cutSection = () -> {
+                if (!html.isEmpty()) {
+                    sections.add(html.toString());
+                    html.setLength(0);
+                }
+            };
+            MarkdownHtmlRenderer.Session session = markdownRenderer.newSession(html, cutSection);
+            
+            return chunks
+                    .concatMapIterable(chunk -> {
+                        session.feed(chunk);
+                        return drain(sections);
+                    })
+                    .concatWith(Flux.defer(() -> {
+                        session.finish();
+                        cutSection.run();
+                        return Flux.fromIterable(drain(sections));
+                    }));
+        });
+    }
+    
+    private static List<String> drain(List<String> sections) {
+        if (sections.isEmpty()) {
+            return List.of();
+        }
+        List<String> ready = List.copyOf(sections);
+        sections.clear();
+        return ready;
     }
     
     /**
      * Gemini API 호출
      * 
+     * @param type 호출 유형 (메트릭 태그)
      * @param prompt AI에게 전달할 프롬프트
+     * @param timeout 호출 제한기 대기를 포함한 전체 응답 기한
      * @return API 응답 텍스트
      */
-    private Mono<String> callGeminiAPI(String prompt) {
-        Map<String, Object> requestBody = Map.of(
-                "contents", List.of(
-                        Map.of("parts", List.of(
-                                Map.of("text", prompt)
-                        ))
-                )
-        );
-        
-        return webClient.post()
-                .uri(GEMINI_API_URL + "?key=" + geminiApiKey)
-                .header("Content-Type", "application/json")
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .map(response -> {
-                    try {
-                        List<Map<String, Object>> candidates = (List<Map<String, Object>>) response.get("candidates");
-                        Map<String, Object> content = (Map<String, Object>) candidates.get(0).get("content");
-                        List<Map<String, Object>> parts = (List<Map<String, Object>>) content.get("parts");
-                        return (String) parts.get(0).get("text");
-                    } catch (Exception e) {
-                        log.error("Gemini API 응답 파싱 오류", e);
-                        throw new RuntimeException("AI 응답 처리 중 오류가 발생했습니다", e);
-                    }
-                });
+    private Mono<String> callGeminiAPI(GeminiCallType type, GeminiPrompt prompt, Duration timeout) {
+        return callGeminiAPI(type, prompt, null, timeout);
     }
     
     /**
-     * 면접 질문 생성을 위한 프롬프트 구성
+     * Gemini API 호출 (생성 설정 포함)
+     * 호출 제한기(RPM/TPM, 적응형 동시성)를 거쳐 전송하며, 헤지 정책이 켜져 있으면 느린 호출에 대해 중복 요청 전송
+     * 서킷 브레이커가 열려 있으면 호출 제한기 대기나 업스트림 타임아웃 없이 즉시 실패
+     * 서킷 브레이커는 제한기 안쪽의 업스트림 호출만 감싸므로, 로컬 대기 시간은 지연 판정에 포함되지 않고 응답 기한 초과는 실패로 집계됨
+     * 제한기 대기는 응답 기한까지로 제한하고, 업스트림 호출에는 남은 기한만 적용
+     * 업스트림 지연과 토큰 사용량은 헤지 요청을 포함한 실제 전송 단위로 기록
+     * 
+     * @param type 호출 유형 (메트릭 태그)
+     * @param prompt AI에게 전달할 프롬프트
+     * @param generationConfig 미리 직렬화한 Gemini generationConfig (null이면 생략)
+     * @param timeout 호출 제한기 대기를 포함한 전체 응답 기한
+     * @return API 응답 텍스트
      */
-    private String buildInterviewQuestionPrompt(InterviewAnalysisRequest request) {
-        return String.format("""
-                당신은 전문 면접관입니다. 다음 구직자 정보를 바탕으로 실제 면접에서 나올 법한 심층적인 질문 5개를 생성해주세요.
-                
-                구직자 정보:
-                %s
-                
-                요구사항:
-                1. 각 질문은 구직자의 경험과 기술 스택에 특화되어야 합니다
-                2. 기술적 깊이와 실무 적용 능력을 평가할 수 있는 질문이어야 합니다
-                3. 상황 기반 질문(STAR 방식)을 포함해주세요
-                4. 질문은 번호와 함께 명확하게 구분해주세요
-                5. 각 질문은 구체적이고 답변하기에 적절한 난이도여야 합니다
-                
-                응답 형식:
-                1. [질문 내용]
-                2. [질문 내용]
-                3. [질문 내용]
-                4. [질문 내용]
-                5. [질문 내용]
-                """, request.getFullProfile());
+    private Mono<String> callGeminiAPI(GeminiCallType type, GeminiPrompt prompt, GeminiGenerationConfig generationConfig, Duration timeout) {
+        return Mono.defer(() -> {
+            long deadlineNanos = System.nanoTime() + timeout.toNanos();
+            
+            return circuitBreaker.rejectIfOpen(hedgingPolicy.hedge(() -> rateLimiter.limit(
+                    Mono.defer(() -> {
+                        long remainingNanos = deadlineNanos - System.nanoTime();
+                        if (remainingNanos <= 0) {
+                            return Mono.error(new GeminiRateLimitExceededException("Gemini 호출 권한을 응답 기한 안에 얻지 못했습니다"));
+                        }
+                        return circuitBreaker.protect(metrics.timeCall(type, geminiClient.generateContent(prompt, generationConfig))
+                                .timeout(Duration.ofNanos(remainingNanos)));
+                    }).doOnNext(response -> metrics.recordUsage(type, response.usageMetadata())),
+                    prompt.length(),
+                    Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())))));
+        }).map(InterviewService::responseText);
     }
     
     /**
-     * 학습 경로 생성을 위한 프롬프트 구성
+     * Gemini 스트리밍 API 호출 (서킷 브레이커, 호출 제한기 적용)
+     * 토큰 사용량은 종료 사유가 담긴 마지막 조각의 usageMetadata로 기록
+     * 
+     * @param type 호출 유형 (메트릭 태그)
+     * @param prompt AI에게 전달할 프롬프트
+     * @return 응답 텍스트 조각 스트림
      */
-    private String buildLearningPathPrompt(InterviewAnalysisRequest request) {
-        return String.format("""
-                당신은 전문 커리어 컨설턴트입니다. 다음 구직자 정보를 바탕으로 개인 맞춤형 학습 경로를 제안해주세요.
-                
-                구직자 정보:
-                %s
-                
-                요구사항:
-                1. 현재 보유 기술을 바탕으로 한 발전 방향 제시
-                2. 희망 직무에 필요한 추가 기술 스택 추천
-                3. 구체적인 학습 단계별 로드맵 제공
-                4. 실무 프로젝트 경험 쌓기 방안
-                5. 업계 트렌드를 반영한 최신 기술 포함
-                6. 학습 우선순위와 예상 소요 시간 제시
-                
-                응답 형식:
-                ## 단기 목표 (1-3개월)
-                - 학습 항목과 구체적인 방법
-                
-                ## 중기 목표 (3-6개월)
-                - 심화 학습 및 프로젝트 경험
-                
-                ## 장기 목표 (6개월 이상)
-                - 전문성 강화 및 리더십 개발
-                
-                ## 추천 리소스
-                - 온라인 강의, 책, 실습 프로젝트 등
-                """, request.getFullProfile());
+    private Flux<String> streamGeminiAPI(GeminiCallType type, GeminiPrompt prompt) {
+        return circuitBreaker.rejectIfOpen(rateLimiter.limit(circuitBreaker.protectStream(metrics.timeStream(type, geminiClient.streamGenerateContent(prompt))), prompt.length()))
+                .doOnNext(chunk -> {
+                    if (chunk.finishReason() != null) {
+                        metrics.recordUsage(type, chunk.usageMetadata());
+                    }
+                })
+                .doOnNext(InterviewService::warnIfTruncated)
+                .doOnNext(GeminiResponse::checkBlocked)
+                .mapNotNull(GeminiResponse::text);
+    }
+    
+    /**
+     * 응답 텍스트 추출 (차단된 응답은 GeminiContentBlockedException, 잘린 응답은 경고 후 그대로 사용)
+     */
+    private static String responseText(GeminiResponse response) {
+        warnIfTruncated(response);
+        return response.requireText();
+    }
+    
+    private static void warnIfTruncated(GeminiResponse response) {
+        if (response.isTruncated()) {
+            log.warn("Gemini 응답이 출력 토큰 한도로 잘렸습니다: usage={}", response.usageMetadata());
+        }
     }
     
     /**
      * AI 응답에서 면접 질문 파싱
      */
     private List<String> parseInterviewQuestions(String response) {
-        log.info("=== 질문 파싱 시작 ===");
-        log.info("원본 응답 길이: {}자", response.length());
-        log.info("원본 응답 내용 (처음 500자): {}", response.substring(0, Math.min(500, response.length())));
-        
-        // 질문을 더 유연하게 파싱
-        List<String> questions = Arrays.stream(response.split("\\n\\n|\\n(?=\\d+\\.)"))
-                .filter(line -> line.trim().matches("^\\d+\\..*"))
-                .map(line -> {
-                    // 번호 제거 후 정리
-                    String cleaned = line.replaceFirst("^\\d+\\.", "").trim();
-                    // 여러 줄로 된 질문 합치기
-                    cleaned = cleaned.replaceAll("\\n+", " ").trim();
-                    return cleaned;
-                })
-                .filter(question -> !question.isEmpty())
-                .limit(5)
-                .toList();
-        
-        log.info("파싱된 질문 수: {}", questions.size());
-        questions.forEach(q -> log.info("파싱된 질문: {}", q));
-        
+        List<String> questions = metrics.timeParse(GeminiCallType.QUESTIONS, () -> questionExtractor.extract(response, QUESTION_COUNT));
+        log.debug("파싱된 질문 수: {} (원본 {}자)", questions.size(), response.length());
         return questions;
     }
     
@@ -236,63 +514,90 @@ public class InterviewService {
      * 학습 경로를 HTML 형식으로 포맷팅
      */
     private String formatLearningPathAsHTML(String response) {
-        log.info("=== HTML 포맷팅 시작 ===");
-        log.info("원본 응답 길이: {}자", response.length());
-        log.info("원본 응답 내용 (처음 300자): {}", response.substring(0, Math.min(300, response.length())));
+        String html = metrics.timeFormat(GeminiCallType.LEARNING_PATH, () -> markdownRenderer.render(response));
+        log.debug("학습 경로 HTML 변환: 원본 {}자 -> {}자", response.length(), html.length());
+        return html;
+    }
+    
+    /**
+     * 구조화 응답의 질문 목록 정리 (빈 항목 제거, 최대 5개)
+     */
+    private List<String> normalizeQuestions(List<String> questions) {
+        if (questions == null) {
+            return List.of();
+        }
+        return questions.stream()
+                .filter(question -> question != null && !question.isBlank())
+                .map(String::trim)
+                .limit(QUESTION_COUNT)
+                .toList();
+    }
+    
+    /**
+     * 구조화 응답의 학습 경로 섹션을 HTML로 변환 (모델 출력은 HTML 이스케이프)
+     */
+    private String formatSectionsAsHTML(CombinedAnalysisResult.LearningPath learningPath) {
+        if (learningPath == null || learningPath.getSections() == null) {
+            return "";
+        }
         
-        // 더 정확한 HTML 포맷팅
         StringBuilder htmlBuilder = new StringBuilder();
-        String[] lines = response.split("\n");
-        boolean inList = false;
-        
-        for (String line : lines) {
-            line = line.trim();
-            
-            if (line.isEmpty()) {
-                continue;
-            }
-            
-            // 헤딩 처리 (## 로 시작)
-            if (line.startsWith("## ")) {
-                // 이전 리스트가 열려있으면 닫기
-                if (inList) {
-                    htmlBuilder.append("</ul>\n");
-                    inList = false;
-                }
-                String heading = line.substring(3).trim();
-                htmlBuilder.append("<h3>").append(heading).append("</h3>\n");
-            }
-            // 리스트 아이템 처리 (- 로 시작)
-            else if (line.startsWith("- ")) {
-                // 리스트가 시작되지 않았으면 시작
-                if (!inList) {
-                    htmlBuilder.append("<ul>\n");
-                    inList = true;
-                }
-                String listItem = line.substring(2).trim();
-                htmlBuilder.append("<li>").append(listItem).append("</li>\n");
-            }
-            // 일반 텍스트
-            else {
-                // 이전 리스트가 열려있으면 닫기
-                if (inList) {
-                    htmlBuilder.append("</ul>\n");
-                    inList = false;
-                }
-                htmlBuilder.append("<p>").append(line).append("</p>\n");
+        for (CombinedAnalysisResult.Section section : learningPath.getSections()) {
+            htmlBuilder.append("<h3>").append(HtmlUtils.htmlEscape(section.getTitle() != null ? section.getTitle() : "")).append("</h3>\n");
+            if (section.getItems() != null && !section.getItems().isEmpty()) {
+                htmlBuilder.append("<ul>\n");
+                section.getItems().forEach(item -> htmlBuilder.append("<li>").append(HtmlUtils.htmlEscape(item)).append("</li>\n"));
+                htmlBuilder.append("</ul>\n");
             }
         }
+        return htmlBuilder.toString();
+    }
+    
+    /**
+     * 질문 은행에서 조립한 응답 (fastMode, Gemini 호출 없음)
+     */
+    private InterviewAnalysisResponse answerFromBank(InterviewAnalysisRequest request) {
+        long startTime = System.currentTimeMillis();
+        List<String> questions = fallbackQuestions(request);
+        String learningPath = fallbackLearningPath(request);
         
-        // 마지막에 열린 리스트가 있으면 닫기
-        if (inList) {
-            htmlBuilder.append("</ul>\n");
-        }
-        
-        String formattedHtml = htmlBuilder.toString();
-        log.info("포맷팅된 HTML 길이: {}자", formattedHtml.length());
-        log.info("포맷팅된 HTML: {}", formattedHtml);
+        InterviewAnalysisResponse.AnalysisMetadata metadata = 
+                InterviewAnalysisResponse.AnalysisMetadata.builder()
+                        .processingTimeMs(System.currentTimeMillis() - startTime)
+                        .degraded(false)
+                        .fastMode(true)
+                        .aiModel("질문 은행 (fast mode)")
+                        .qualityScore(calculateQualityScore(request))
+                        .analysisTimestamp(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                        .priority(determinePriority(request).name())
+                        .extractedKeywords(extractKeywords(request))
+                        .build();
         
-        return formattedHtml;
+        log.info("질문 은행 응답: 질문 {}개, 학습 경로 {}자, {}ms", questions.size(), learningPath.length(), metadata.getProcessingTimeMs());
+        return InterviewAnalysisResponse.success(questions, learningPath, metadata);
+    }
+    
+    /**
+     * 대체 면접 질문 (질문 은행에서 프로필에 가까운 질문을 고르고 부족한 수는 기본 질문으로 채움)
+     */
+    private List<String> fallbackQuestions(InterviewAnalysisRequest request) {
+        List<String> questions = new ArrayList<>(questionBank.findQuestions(request, QUESTION_COUNT));
+        for (String question : getDefaultQuestions(request.getPosition())) {
+            if (questions.size() >= QUESTION_COUNT) {
+                break;
+            }
+            if (!questions.contains(question)) {
+                questions.add(question);
+            }
+        }
+        return questions;
+    }
+    
+    /**
+     * 대체 학습 경로 (질문 은행에 일치하는 섹션이 없으면 기본 학습 경로)
+     */
+    private String fallbackLearningPath(InterviewAnalysisRequest request) {
+        return questionBank.findLearningPath(request).orElseGet(() -> getDefaultLearningPath(request.getPosition()));
     }
     
     /**
@@ -348,23 +653,31 @@ public class InterviewService {
     
     /**
      * 우선순위 결정
+     * 응답 메타데이터와 비동기 작업 큐(AnalysisJobService)의 실행 순서에 사용
      */
-    private String determinePriority(InterviewAnalysisRequest request) {
-        if ("신입".equals(request.getExperience())) return "HIGH";
-        if (request.getProjectExperience() != null && request.getProjectExperience().length() > 100) return "HIGH";
-        return "MEDIUM";
+    AnalysisPriority determinePriority(InterviewAnalysisRequest request) {
+        if ("신입".equals(request.getExperience())) return AnalysisPriority.HIGH;
+        if (request.getProjectExperience() != null && request.getProjectExperience().length() > 100) return AnalysisPriority.HIGH;
+        return AnalysisPriority.MEDIUM;
     }
     
     /**
      * 키워드 추출
+     * 희망 직무, 경력과 함께 텍스트 필드 전체에서 찾은 기술 스킬(SkillDictionary)을 등장 횟수 순으로 표시 이름으로 반환
      */
     private List<String> extractKeywords(InterviewAnalysisRequest request) {
-        return Arrays.asList(
-                request.getPosition(),
-                request.getExperience(),
-                "면접 준비",
-                "기술 스킬"
-        );
+        List<String> keywords = new ArrayList<>();
+        if (request.getPosition() != null && !request.getPosition().isBlank()) {
+            keywords.add(request.getPosition());
+        }
+        if (request.getExperience() != null && !request.getExperience().isBlank()) {
+            keywords.add(request.getExperience());
+        }
+        skillDictionary.extract(request).stream()
+                .limit(MAX_SKILL_KEYWORDS)
+                .map(SkillDictionary.SkillMatch::name)
+                .forEach(keywords::add);
+        return keywords;
     }
     
     /**
@@ -0,0 +1,138 @@
+package test.test.Interview;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * JDK HttpClient 기반 Gemini 클라이언트
+ * 요청마다 가상 스레드에서 블로킹 방식으로 호출 (google.gemini.client.transport=jdk)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "google.gemini.client.transport", havingValue = "jdk")
+public class JdkHttpGeminiClient implements GeminiClient, DisposableBean {
+
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Scheduler scheduler = Schedulers.fromExecutorService(virtualThreadExecutor, "gemini-jdk");
+
+    private final HttpClient httpClient;
+
+    @Value("${google.gemini.api.key}")
+    private String geminiApiKey;
+
+    @Value("${google.gemini.api.url:" + DEFAULT_API_URL + "}")
+    private String geminiApiUrl;
+
+    /**
+     * 요청 전체 타임아웃 (응답 헤더 수신까지)
+     */
+    @Value("${google.gemini.client.jdk.request-timeout:60s}")
+    private Duration requestTimeout;
+
+    public JdkHttpGeminiClient(ObjectMapper objectMapper,
+                               @Value("${google.gemini.http.connect-timeout:5s}") Duration connectTimeout,
+                               @Value("${google.gemini.http.http2:true}") boolean http2) {
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .executor(virtualThreadExecutor)
+                .connectTimeout(connectTimeout)
+                .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @Override
+    public Mono<GeminiResponse> generateContent(GeminiPrompt prompt, GeminiGenerationConfig generationConfig) {
+        return Mono.fromCallable(() -> send(prompt, generationConfig))
+                .subscribeOn(scheduler);
+    }
+
+    @Override
+    public Flux<GeminiResponse> streamGenerateContent(GeminiPrompt prompt) {
+        return Mono.fromCallable(() -> openStream(prompt))
+                .flatMapMany(Flux::fromStream)
+                .filter(line -> line.startsWith("data:"))
+                .map(line -> readResponse(line.substring(5).trim()))
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * 가상 스레드에서 실행되는 블로킹 호출
+     */
+    private GeminiResponse send(GeminiPrompt prompt, GeminiGenerationConfig generationConfig) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(GeminiClient.generateContentUri(geminiApiUrl, geminiApiKey)))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(GeminiClient.requestBody(prompt, generationConfig)))
+                .build();
+
+        // 본문을 바이트 배열로 모으지 않고 스트림에서 바로 역직렬화
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+        try (InputStream body = response.body()) {
+            if (response.statusCode() / 100 != 2) {
+                byte[] head = body.readNBytes(500);
+                log.warn("Gemini API 오류 응답: status={}, body={}", response.statusCode(), new String(head, StandardCharsets.UTF_8));
+                throw new GeminiApiException(response.statusCode(), "Gemini API 오류 응답: " + response.statusCode());
+            }
+            return objectMapper.readValue(body, GeminiResponse.class);
+        } catch (IOException e) {
+            throw new GeminiApiException(200, "AI 응답 처리 중 오류가 발생했습니다", e);
+        }
+    }
+
+    /**
+     * SSE 스트림 연결 후 응답 본문을 줄 단위로 반환 (구독 취소 시 스트림이 닫히며 연결 해제)
+     */
+    private Stream<String> openStream(GeminiPrompt prompt) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(GeminiClient.streamGenerateContentUri(geminiApiUrl, geminiApiKey)))
+                .header("Content-Type", "application/json")
+                .header("Accept", "text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(GeminiClient.requestBody(prompt, null)))
+                .build();
+
+        HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+
+        if (response.statusCode() / 100 != 2) {
+            response.body().close();
+            throw new GeminiApiException(response.statusCode(), "Gemini API 오류 응답: " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private GeminiResponse readResponse(String json) {
+        try {
+            return objectMapper.readValue(json, GeminiResponse.class);
+        } catch (IOException e) {
+            throw new GeminiApiException(200, "AI 응답 처리 중 오류가 발생했습니다", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        httpClient.close();
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,485 @@
+package test.test.Interview;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 학습 경로 마크다운 → HTML 변환기
+ * 입력을 줄 단위로 한 번만 훑으며 결과를 Appendable에 바로 기록 (작업 버퍼는 아직 끝나지 않은 한 줄뿐)
+ *
+ * <p>지원 문법: 헤딩(#~######, 한 단계 낮춰 h2~h6으로 출력), 중첩 목록(-, *, +, 1., 1)), 문단, 구분선, 코드 블록(```),
+ * 굵게(**, __), 기울임(*), 인라인 코드(`), 링크([텍스트](http://...))
+ * 모델 출력은 모두 HTML 이스케이프하며 링크는 http/https 주소만 허용
+ */
+@Component
+public class MarkdownHtmlRenderer {
+
+    /**
+     * 최대 목록 중첩 깊이 (초과하는 들여쓰기는 가장 깊은 목록의 항목으로 처리)
+     */
+    private static final int MAX_LIST_DEPTH = 8;
+
+    /**
+     * 마크다운 전체를 HTML 문자열로 변환
+     *
+     * @param markdown 모델 응답 마크다운
+     * @return HTML
+     */
+    public String render(String markdown) {
+        StringBuilder html = new StringBuilder(markdown.length() + markdown.length() / 2);
+        Session session = newSession(html);
+        session.feed(markdown);
+        session.finish();
+        return html.toString();
+    }
+
+    /**
+     * 조각 단위 입력용 변환 세션 생성
+     *
+     * @param out HTML 출력 대상
+     * @return 새 세션 (스레드 안전하지 않으므로 스트림 하나에서만 사용)
+     */
+    public Session newSession(Appendable out) {
+        return new Session(out, null);
+    }
+
+    /**
+     * 섹션 경계 알림을 받는 변환 세션 생성
+     *
+     * @param out HTML 출력 대상
+     * @param onSectionStart 최상위 섹션 헤딩(#, ##)을 쓰기 직전에 호출 (이전 섹션의 태그는 모두 닫힌 상태)
+     * @return 새 세션
+     */
+    public Session newSession(Appendable out, Runnable onSectionStart) {
+        return new Session(out, onSectionStart);
+    }
+
+    /**
+     * 증분 변환 세션
+     */
+    public static final class Session {
+
+        private final Appendable out;
+
+        private final Runnable onSectionStart;
+
+        /**
+         * 아직 개행을 만나지 못한 줄
+         */
+        private final StringBuilder pending = new StringBuilder();
+
+        private final int[] listIndents = new int[MAX_LIST_DEPTH];
+
+        private final boolean[] listOrdered = new boolean[MAX_LIST_DEPTH];
+
+        private int listDepth;
+
+        private boolean paragraphOpen;
+
+        private boolean inCodeBlock;
+
+        private Session(Appendable out, Runnable onSectionStart) {
+            this.out = out;
+            this.onSectionStart = onSectionStart;
+        }
+
+        /**
+         * 마크다운 조각 입력 (완성된 줄만 변환하고 나머지는 다음 조각까지 보관)
+         *
+         * @param chunk 마크다운 조각 (줄 경계와 무관)
+         */
+        public void feed(CharSequence chunk) {
+            pending.append(chunk);
+            int lineStart = 0;
+            for (int i = 0; i < pending.length(); i++) {
+                if (pending.charAt(i) == '\n') {
+                    renderLine(lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+            pending.delete(0, lineStart);
+        }
+
+        /**
+         * 입력 종료 (마지막 줄을 변환하고 열린 태그를 모두 닫음)
+         */
+        public void finish() {
+            if (!pending.isEmpty()) {
+                renderLine(0, pending.length());
+                pending.setLength(0);
+            }
+            if (inCodeBlock) {
+                write("</code></pre>\n");
+                inCodeBlock = false;
+            }
+            closeBlocks();
+        }
+
+        private void renderLine(int start, int end) {
+            if (end > start && pending.charAt(end - 1) == '\r') {
+                end--;
+            }
+
+            int indent = 0;
+            int p = start;
+            while (p < end && (pending.charAt(p) == ' ' || pending.charAt(p) == '\t')) {
+                indent += pending.charAt(p) == '\t' ? 4 : 1;
+                p++;
+            }
+            int contentEnd = end;
+            while (contentEnd > p && Character.isWhitespace(pending.charAt(contentEnd - 1))) {
+                contentEnd--;
+            }
+
+            if (startsWith(p, contentEnd, "```")) {
+                if (inCodeBlock) {
+                    write("</code></pre>\n");
+                    inCodeBlock = false;
+                } else {
+                    closeBlocks();
+                    write("<pre><code>");
+                    inCodeBlock = true;
+                }
+                return;
+            }
+            if (inCodeBlock) {
+                escape(start, end);
+                write("\n");
+                return;
+            }
+
+            // 빈 줄은 문단만 끝냄 (모델은 목록 항목 사이에 빈 줄을 자주 넣으므로 목록은 유지)
+            if (p == contentEnd) {
+                closeParagraph();
+                return;
+            }
+
+            int headingLevel = headingLevel(p, contentEnd);
+            if (headingLevel > 0) {
+                closeBlocks();
+                if (headingLevel <= 2 && onSectionStart != null) {
+                    onSectionStart.run();
+                }
+                int level = Math.min(6, headingLevel + 1);
+                write("<h").write(level).write(">");
+                renderInline(skipSpaces(p + headingLevel, contentEnd), contentEnd);
+                write("</h").write(level).write(">\n");
+                return;
+            }
+
+            if (isThematicBreak(p, contentEnd)) {
+                closeBlocks();
+                write("<hr>\n");
+                return;
+            }
+
+            int itemStart = bulletEnd(p, contentEnd);
+            boolean ordered = false;
+            if (itemStart < 0) {
+                itemStart = orderedEnd(p, contentEnd);
+                ordered = itemStart >= 0;
+            }
+            if (itemStart >= 0) {
+                closeParagraph();
+                openItem(indent, ordered, p);
+                renderInline(itemStart, contentEnd);
+                return;
+            }
+
+            // 들여쓴 일반 줄은 직전 목록 항목의 이어지는 줄
+            if (listDepth > 0 && indent > 0) {
+                write(" ");
+                renderInline(p, contentEnd);
+                return;
+            }
+
+            closeLists();
+            if (paragraphOpen) {
+                write(" ");
+            } else {
+                write("<p>");
+                paragraphOpen = true;
+            }
+            renderInline(p, contentEnd);
+        }
+
+        private void openItem(int indent, boolean ordered, int markerStart) {
+            while (listDepth > 0 && listIndents[listDepth - 1] > indent) {
+                closeList();
+            }
+            if (listDepth > 0 && listIndents[listDepth - 1] == indent) {
+                if (listOrdered[listDepth - 1] == ordered) {
+                    write("</li>\n<li>");
+                    return;
+                }
+                closeList();
+            }
+            if (listDepth == MAX_LIST_DEPTH) {
+                write("</li>\n<li>");
+                return;
+            }
+            if (listDepth > 0) {
+                write("\n");
+            }
+            listIndents[listDepth] = indent;
+            listOrdered[listDepth] = ordered;
+            listDepth++;
+            if (!ordered) {
+                write("<ul>\n<li>");
+                return;
+            }
+            int number = 0;
+            for (int i = markerStart; i < pending.length() && Character.isDigit(pending.charAt(i)) && number < 100_000; i++) {
+                number = number * 10 + (pending.charAt(i) - '0');
+            }
+            if (number > 1) {
+                write("<ol start=\"").write(number).write("\">\n<li>");
+            } else {
+                write("<ol>\n<li>");
+            }
+        }
+
+        private void closeList() {
+            listDepth--;
+            write(listOrdered[listDepth] ? "</li>\n</ol>\n" : "</li>\n</ul>\n");
+        }
+
+        private void closeLists() {
+            while (listDepth > 0) {
+                closeList();
+            }
+        }
+
+        private void closeParagraph() {
+            if (paragraphOpen) {
+                write("</p>\n");
+                paragraphOpen = false;
+            }
+        }
+
+        private void closeBlocks() {
+            closeParagraph();
+            closeLists();
+        }
+
+        /**
+         * 인라인 문법 변환 (굵게, 기울임, 코드, 링크)
+         */
+        private void renderInline(int start, int end) {
+            int i = start;
+            while (i < end) {
+                char c = pending.charAt(i);
+
+                if (c == '`') {
+                    int close = indexOf('`', i + 1, end);
+                    if (close > i + 1) {
+                        write("<code>");
+                        escape(i + 1, close);
+                        write("</code>");
+                        i = close + 1;
+                        continue;
+                    }
+                }
+
+                if ((c == '*' || c == '_') && i + 1 < end && pending.charAt(i + 1) == c
+                        && (c == '*' || i == start || !Character.isLetterOrDigit(pending.charAt(i - 1)))) {
+                    int close = indexOfPair(c, i + 2, end);
+                    if (close > i + 2) {
+                        write("<strong>");
+                        renderInline(i + 2, close);
+                        write("</strong>");
+                        i = close + 2;
+                        continue;
+                    }
+                }
+
+                if (c == '*' && i + 1 < end && !Character.isWhitespace(pending.charAt(i + 1))) {
+                    int close = indexOf('*', i + 1, end);
+                    if (close > i + 1 && !Character.isWhitespace(pending.charAt(close - 1))) {
+                        write("<em>");
+                        renderInline(i + 1, close);
+                        write("</em>");
+                        i = close + 1;
+                        continue;
+                    }
+                }
+
+                if (c == '[') {
+                    int textEnd = indexOf(']', i + 1, end);
+                    if (textEnd > i + 1 && textEnd + 1 < end && pending.charAt(textEnd + 1) == '(') {
+                        int urlEnd = linkDestinationEnd(textEnd + 2, end);
+                        if (urlEnd > textEnd + 2) {
+                            renderLink(i + 1, textEnd, textEnd + 2, urlEnd);
+                            i = urlEnd + 1;
+                            continue;
+                        }
+                    }
+                }
+
+                escape(c);
+                i++;
+            }
+        }
+
+        private void renderLink(int textStart, int textEnd, int urlStart, int urlEnd) {
+            if (startsWith(urlStart, urlEnd, "https://") || startsWith(urlStart, urlEnd, "http://")) {
+                write("<a href=\"");
+                escape(urlStart, urlEnd);
+                write("\" target=\"_blank\" rel=\"noopener noreferrer\">");
+                renderInline(textStart, textEnd);
+                write("</a>");
+            } else {
+                renderInline(textStart, textEnd);
+            }
+        }
+
+        private int headingLevel(int p, int end) {
+            int level = 0;
+            while (p + level < end && pending.charAt(p + level) == '#' && level < 7) {
+                level++;
+            }
+            if (level == 0 || level > 6 || p + level >= end || pending.charAt(p + level) != ' ') {
+                return 0;
+            }
+            return level;
+        }
+
+        private boolean isThematicBreak(int p, int end) {
+            char marker = pending.charAt(p);
+            if (marker != '-' && marker != '*' && marker != '_') {
+                return false;
+            }
+            int count = 0;
+            for (int i = p; i < end; i++) {
+                char c = pending.charAt(i);
+                if (c == marker) {
+                    count++;
+                } else if (c != ' ') {
+                    return false;
+                }
+            }
+            return count >= 3;
+        }
+
+        /**
+         * 순서 없는 목록 표지(-, *, +) 뒤 본문 시작 위치 (목록이 아니면 -1)
+         */
+        private int bulletEnd(int p, int end) {
+            char c = pending.charAt(p);
+            if ((c == '-' || c == '*' || c == '+') && p + 1 < end && pending.charAt(p + 1) == ' ') {
+                return skipSpaces(p + 1, end);
+            }
+            return -1;
+        }
+
+        /**
+         * 순서 있는 목록 표지(1., 1)) 뒤 본문 시작 위치 (목록이 아니면 -1)
+         */
+        private int orderedEnd(int p, int end) {
+            int i = p;
+            while (i < end && i - p < 9 && Character.isDigit(pending.charAt(i))) {
+                i++;
+            }
+            if (i == p || i + 1 >= end) {
+                return -1;
+            }
+            char delimiter = pending.charAt(i);
+            if ((delimiter == '.' || delimiter == ')') && pending.charAt(i + 1) == ' ') {
+                return skipSpaces(i + 1, end);
+            }
+            return -1;
+        }
+
+        private int skipSpaces(int p, int end) {
+            while (p < end && pending.charAt(p) == ' ') {
+                p++;
+            }
+            return p;
+        }
+
+        private boolean startsWith(int p, int end, String prefix) {
+            if (end - p < prefix.length()) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (pending.charAt(p + i) != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int indexOf(char c, int from, int end) {
+            for (int i = from; i < end; i++) {
+                if (pending.charAt(i) == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 링크 주소를 닫는 괄호 위치 (주소 안의 괄호는 짝이 맞으면 주소의 일부, 없으면 -1)
+         */
+        private int linkDestinationEnd(int from, int end) {
+            int depth = 0;
+            for (int i = from; i < end; i++) {
+                char c = pending.charAt(i);
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    if (depth == 0) {
+                        return i;
+                    }
+                    depth--;
+                }
+            }
+            return -1;
+        }
+
+        private int indexOfPair(char c, int from, int end) {
+            for (int i = from; i + 1 < end; i++) {
+                if (pending.charAt(i) == c && pending.charAt(i + 1) == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void escape(int start, int end) {
+            for (int i = start; i < end; i++) {
+                escape(pending.charAt(i));
+            }
+        }
+
+        private void escape(char c) {
+            try {
+                switch (c) {
+                    case '&' -> out.append("&amp;");
+                    case '<' -> out.append("&lt;");
+                    case '>' -> out.append("&gt;");
+                    case '"' -> out.append("&quot;");
+                    case '\'' -> out.append("&#39;");
+                    default -> out.append(c);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private Session write(CharSequence text) {
+            try {
+                out.append(text);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        private Session write(int number) {
+            return write(Integer.toString(number));
+        }
+    }
+}
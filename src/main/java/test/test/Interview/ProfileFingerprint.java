@@ -0,0 +1,76 @@
+package test.test.Interview;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 프로필 지문 생성기
+ * 공백/대소문자/기술 스킬 순서만 다른 프로필이 같은 키를 갖도록 정규화한 뒤 SHA-256 해시로 변환
+ */
+public final class ProfileFingerprint {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Pattern SKILL_SEPARATOR = Pattern.compile("[,/;·]");
+
+    private ProfileFingerprint() {
+    }
+
+    /**
+     * 요청의 정규화된 프로필 지문 생성
+     *
+     * @param request 사용자 이력서 정보
+     * @return 64자리 16진수 SHA-256 지문
+     */
+    public static String of(InterviewAnalysisRequest request) {
+        String canonical = String.join("\n",
+                "experience=" + normalizeText(request.getExperience()),
+                "position=" + normalizeText(request.getPosition()),
+                "front=" + normalizeSkills(request.getFront()),
+                "back=" + normalizeSkills(request.getBack()),
+                "devops=" + normalizeSkills(request.getDevops()),
+                "etc=" + normalizeSkills(request.getEtc()),
+                "projectExperience=" + normalizeText(request.getProjectExperience()),
+                "learningGoals=" + normalizeText(request.getLearningGoals()),
+                "companySize=" + normalizeText(request.getCompanySize()),
+                "industry=" + normalizeText(request.getIndustry()));
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환
+     */
+    static String normalizeText(String value) {
+        if (value == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(value.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 구분자로 나눈 기술 스킬을 정규화 후 중복 제거 및 정렬
+     */
+    static String normalizeSkills(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return "";
+        }
+        return Arrays.stream(SKILL_SEPARATOR.split(skills))
+                .map(ProfileFingerprint::normalizeText)
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+}
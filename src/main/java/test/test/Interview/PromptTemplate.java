@@ -0,0 +1,145 @@
+package test.test.Interview;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 컴파일된 프롬프트 템플릿
+ * 로딩 시 한 번만 {{슬롯}} 위치를 찾아 고정 문자열 조각과 슬롯으로 나누고,
+ * 고정 조각은 JSON 문자열 형식(이스케이프 + UTF-8)으로 미리 인코딩해 두어 요청마다 다시 변환하지 않음
+ */
+public final class PromptTemplate {
+
+    private static final String SLOT_OPEN = "{{";
+
+    private static final String SLOT_CLOSE = "}}";
+
+    private final String name;
+
+    /**
+     * 고정 문자열 조각 (슬롯 수 + 1개, 슬롯 사이의 빈 조각 포함)
+     */
+    private final String[] literals;
+
+    /**
+     * JSON 문자열 형식으로 미리 인코딩한 고정 조각
+     */
+    private final byte[][] encodedLiterals;
+
+    private final String[] slots;
+
+    private final int literalLength;
+
+    private final int encodedLiteralLength;
+
+    private PromptTemplate(String name, List<String> literals, List<String> slots) {
+        this.name = name;
+        this.literals = literals.toArray(String[]::new);
+        this.slots = slots.toArray(String[]::new);
+        this.encodedLiterals = new byte[this.literals.length][];
+        int length = 0;
+        int encodedLength = 0;
+        for (int i = 0; i < this.literals.length; i++) {
+            JsonByteBuffer encoded = new JsonByteBuffer(this.literals[i].length() * 3);
+            encoded.writeEscaped(this.literals[i]);
+            encodedLiterals[i] = encoded.toByteArray();
+            length += this.literals[i].length();
+            encodedLength += encodedLiterals[i].length;
+        }
+        this.literalLength = length;
+        this.encodedLiteralLength = encodedLength;
+    }
+
+    /**
+     * 템플릿 원문 파싱
+     *
+     * @param name 템플릿 이름 (오류 메시지용)
+     * @param source 템플릿 원문 ({{이름}} 형식의 슬롯 포함)
+     * @return 컴파일된 템플릿
+     * @throws IllegalArgumentException 닫히지 않았거나 이름이 빈 슬롯
+     */
+    public static PromptTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(SLOT_OPEN, position)) >= 0) {
+            int close = source.indexOf(SLOT_CLOSE, open + SLOT_OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("프롬프트 템플릿 슬롯이 닫히지 않았습니다: " + name + " (위치 " + open + ")");
+            }
+            String slot = source.substring(open + SLOT_OPEN.length(), close).trim();
+            if (slot.isEmpty()) {
+                throw new IllegalArgumentException("프롬프트 템플릿 슬롯 이름이 비어 있습니다: " + name + " (위치 " + open + ")");
+            }
+            literals.add(source.substring(position, open));
+            slots.add(slot);
+            position = close + SLOT_CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new PromptTemplate(name, literals, slots);
+    }
+
+    /**
+     * 슬롯 없는 단일 문자열 템플릿 (임시 프롬프트용)
+     */
+    static PromptTemplate literal(String text) {
+        return new PromptTemplate("literal", List.of(text), List.of());
+    }
+
+    /**
+     * 슬롯 값을 채운 프롬프트 생성 (문자열을 이어 붙이지 않고 값만 보관)
+     *
+     * @param values 슬롯 이름별 값
+     * @return 요청 본문으로 바로 기록할 수 있는 프롬프트
+     * @throws IllegalArgumentException 값이 없는 슬롯
+     */
+    public GeminiPrompt bind(Map<String, ? extends CharSequence> values) {
+        CharSequence[] bound = new CharSequence[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            CharSequence value = values.get(slots[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("프롬프트 템플릿 슬롯 값이 없습니다: " + name + "." + slots[i]);
+            }
+            bound[i] = value;
+        }
+        return new GeminiPrompt(this, bound);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 템플릿이 사용하는 슬롯 이름 (등장 순서, 중복 포함)
+     */
+    public List<String> getSlots() {
+        return List.of(slots);
+    }
+
+    int slotCount() {
+        return slots.length;
+    }
+
+    String literal(int index) {
+        return literals[index];
+    }
+
+    byte[] encodedLiteral(int index) {
+        return encodedLiterals[index];
+    }
+
+    int literalLength() {
+        return literalLength;
+    }
+
+    int encodedLiteralLength() {
+        return encodedLiteralLength;
+    }
+
+    @Override
+    public String toString() {
+        return "PromptTemplate[" + name + ", slots=" + List.of(slots) + "]";
+    }
+}
@@ -0,0 +1,141 @@
+package test.test.Interview;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프롬프트 템플릿 저장소
+ * interview.prompt.location 아래의 {이름}.txt 파일을 시작 시 한 번 읽어 컴파일 (없거나 잘못된 템플릿이면 기동 실패)
+ * 템플릿의 슬롯은 정확히 {{profile}}이어야 함 (누락되거나 오타가 난 슬롯은 기동 시 실패, 재로드 시 거부)
+ * reload-interval이 0보다 크면 해당 간격마다 파일 수정 시각을 확인해 바뀐 템플릿만 다시 컴파일 (file: 경로 사용 시 재배포 없이 프롬프트 수정 가능)
+ */
+@Slf4j
+@Component
+public class PromptTemplates {
+
+    public static final String INTERVIEW_QUESTIONS = "interview-questions";
+
+    public static final String LEARNING_PATH = "learning-path";
+
+    public static final String COMBINED = "combined";
+
+    /**
+     * 사용자 프로필 슬롯 이름
+     */
+    public static final String PROFILE_SLOT = "profile";
+
+    private static final List<String> NAMES = List.of(INTERVIEW_QUESTIONS, LEARNING_PATH, COMBINED);
+
+    /**
+     * 모든 템플릿이 사용해야 하는 슬롯 (이 외의 슬롯은 값을 채울 수 없으므로 허용하지 않음)
+     */
+    private static final Set<String> REQUIRED_SLOTS = Set.of(PROFILE_SLOT);
+
+    private final ResourceLoader resourceLoader;
+
+    private final String location;
+
+    private final long reloadIntervalNanos;
+
+    private final Map<String, Entry> templates = new ConcurrentHashMap<>();
+
+    public PromptTemplates(ResourceLoader resourceLoader,
+                           @Value("${interview.prompt.location:classpath:prompts/}") String location,
+                           @Value("${interview.prompt.reload-interval:0s}") Duration reloadInterval) {
+        this.resourceLoader = resourceLoader;
+        this.location = location.endsWith("/") ? location : location + "/";
+        this.reloadIntervalNanos = reloadInterval.toNanos();
+        for (String name : NAMES) {
+            templates.put(name, load(name));
+        }
+        log.info("프롬프트 템플릿 로드 완료: {} (위치: {}, 재로드 간격: {})", NAMES, this.location, reloadInterval);
+    }
+
+    /**
+     * 이름으로 템플릿 조회
+     *
+     * @param name 템플릿 이름 (확장자 제외)
+     * @return 컴파일된 템플릿
+     * @throws IllegalArgumentException 등록되지 않은 이름
+     */
+    public PromptTemplate get(String name) {
+        Entry entry = templates.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("등록되지 않은 프롬프트 템플릿입니다: " + name);
+        }
+        if (reloadIntervalNanos > 0 && System.nanoTime() - entry.checkedAt >= reloadIntervalNanos) {
+            entry = reloadIfModified(name, entry);
+        }
+        return entry.template;
+    }
+
+    /**
+     * 수정 시각이 바뀌었으면 다시 컴파일 (실패 시 기존 템플릿 유지)
+     */
+    private Entry reloadIfModified(String name, Entry entry) {
+        Entry checked;
+        try {
+            long lastModified = resource(name).lastModified();
+            checked = lastModified != entry.lastModified
+                    ? load(name)
+                    : new Entry(entry.template, entry.lastModified, System.nanoTime());
+            if (checked.template != entry.template) {
+                log.info("프롬프트 템플릿 변경 감지, 다시 로드: {}", name);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("프롬프트 템플릿 재로드 실패, 기존 템플릿 유지: {} ({})", name, e.getMessage());
+            checked = new Entry(entry.template, entry.lastModified, System.nanoTime());
+        }
+        // 동시에 확인한 다른 스레드가 먼저 교체했으면 그 결과를 사용
+        return templates.replace(name, entry, checked) ? checked : templates.get(name);
+    }
+
+    private Entry load(String name) {
+        Resource resource = resource(name);
+        try (InputStream in = resource.getInputStream()) {
+            String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            long lastModified = lastModified(resource);
+            PromptTemplate template = PromptTemplate.compile(name, source);
+            Set<String> slots = new TreeSet<>(template.getSlots());
+            if (!slots.equals(REQUIRED_SLOTS)) {
+                throw new IllegalArgumentException("프롬프트 템플릿 슬롯이 올바르지 않습니다: " + name
+                        + " (필요: " + REQUIRED_SLOTS + ", 실제: " + slots + ")");
+            }
+            return new Entry(template, lastModified, System.nanoTime());
+        } catch (IOException e) {
+            throw new UncheckedIOException("프롬프트 템플릿을 읽을 수 없습니다: " + resource.getDescription(), e);
+        }
+    }
+
+    private Resource resource(String name) {
+        return resourceLoader.getResource(location + name + ".txt");
+    }
+
+    /**
+     * jar 내부 리소스처럼 수정 시각을 알 수 없으면 0
+     */
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private record Entry(PromptTemplate template, long lastModified, long checkedAt) {
+    }
+}
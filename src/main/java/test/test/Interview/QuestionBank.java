@@ -0,0 +1,663 @@
+package test.test.Interview;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 면접 질문/학습 경로 섹션 은행
+ * 시드 TSV와 Gemini가 정상 생성한 결과를 직무 분류, 경력 수준, 기술 스킬 태그로 색인해 두고
+ * fastMode 요청과 Gemini 실패 시의 대체 콘텐츠를 프로필에 가장 가까운 항목으로 즉시 조립
+ *
+ * <p>태그별 게시 목록(역색인)에서 일치한 항목만 희소 점수표에 누적하는 방식이라 조회 비용은 항목 수가 아니라 일치한 게시 목록 길이에 비례
+ * 점수: 같은 직무 3점, 공통(general) 항목 1점, 같은 경력 수준 2점,
+ * 기술 스킬마다 (1 + ln(N / df)) × (1 + ln(요청 내 등장 횟수)) (드문 스킬, 자주 언급한 스킬일수록 가중)
+ * 기술 스킬 태그는 SkillDictionary의 keyword로 정규화 (사전에 없는 스킬은 입력 그대로 소문자 정규화)
+ * 경력 수준이 명시된 항목은 다른 수준의 요청에는 제공하지 않음
+ * 생성 결과 누적(record)은 사용자 이력서 내용이 다른 사용자에게 노출될 수 있어 기본으로 꺼져 있으며,
+ * 켜는 경우 max-items에 도달하면 가장 오래된 누적 항목부터 밀어냄 (시드 항목은 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionBank {
+
+    /**
+     * 항목 종류 (학습 경로 섹션은 이 순서대로 조립)
+     */
+    public enum Kind {
+        QUESTION, SHORT_TERM, MID_TERM, LONG_TERM, RESOURCES
+    }
+
+    static final String GENERAL = "general";
+
+    private static final float POSITION_WEIGHT = 3f;
+
+    private static final float GENERAL_WEIGHT = 1f;
+
+    private static final float LEVEL_WEIGHT = 2f;
+
+    /**
+     * max-items 도달 시 한 번에 밀어내는 비율 (색인 재구성 비용을 여러 추가에 나눠 부담)
+     */
+    private static final double EVICTION_RATIO = 0.1;
+
+    /**
+     * 직무 분류 키워드 (앞쪽 분류 우선, 예: "풀스택"은 백엔드/프론트엔드보다 먼저 판정)
+     */
+    private static final List<Map.Entry<String, List<String>>> POSITION_KEYWORDS = List.of(
+            Map.entry("fullstack", List.of("풀스택", "fullstack", "full stack", "full-stack")),
+            Map.entry("devops", List.of("devops", "데브옵스", "인프라", "sre", "클라우드", "cloud")),
+            Map.entry("data", List.of("데이터", "data", "머신러닝", "machine learning", "ai 엔지니어")),
+            Map.entry("mobile", List.of("모바일", "mobile", "android", "안드로이드", "ios", "flutter")),
+            Map.entry("frontend", List.of("프론트", "frontend", "front-end", "퍼블리셔")),
+            Map.entry("backend", List.of("백엔드", "backend", "back-end", "서버", "server")));
+
+    private static final Pattern YEARS = Pattern.compile("(\\d+)\\s*(년|years?|yrs?)");
+
+    private static final Pattern SECTION_START = Pattern.compile("<h[23]>");
+
+    private static final Pattern TAG = Pattern.compile("<[^>]+>");
+
+    private final ResourceLoader resourceLoader;
+
+    private final MeterRegistry meterRegistry;
+
+    private final SkillDictionary skillDictionary;
+
+    /**
+     * 시드 항목 위치 (탭 구분: kind, position, level, skills, text)
+     */
+    @Value("${interview.question-bank.seed:classpath:question-bank/seed.tsv}")
+    private String seedLocation;
+
+    /**
+     * 생성 결과를 누적 저장할 파일 (비어 있으면 메모리에만 보관하고 재시작 시 시드만 남음)
+     */
+    @Value("${interview.question-bank.store-file:}")
+    private String storeFile;
+
+    /**
+     * 정상 생성된 질문/학습 경로를 은행에 추가할지 여부
+     * 생성 결과에는 요청자의 이력서 내용이 담길 수 있고 은행은 모든 사용자가 공유하므로 기본값은 끔
+     * (검수한 항목만 제공하려면 시드 또는 store-file을 직접 관리)
+     */
+    @Value("${interview.question-bank.record:false}")
+    private boolean recordEnabled;
+
+    /**
+     * 최대 항목 수 (도달하면 가장 오래된 누적 항목부터 밀어냄, 시드 항목은 밀어내지 않음)
+     */
+    @Value("${interview.question-bank.max-items:50000}")
+    private int maxItems;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Item> items = new ArrayList<>();
+
+    /**
+     * 태그("position:backend", "skill:redis") → 항목 번호 게시 목록
+     */
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    private final Set<String> texts = new HashSet<>();
+
+    /**
+     * 시드 항목 수 (items 앞쪽에 있으며 밀어내기 대상에서 제외)
+     */
+    private int seedCount;
+
+    private ExecutorService storeWriter;
+
+    @PostConstruct
+    void init() {
+        Resource seed = resourceLoader.getResource(seedLocation);
+        if (seed.exists()) {
+            try (Reader reader = new InputStreamReader(seed.getInputStream(), StandardCharsets.UTF_8)) {
+                load(reader);
+            } catch (IOException e) {
+                log.warn("질문 은행 시드 로드 실패: {}", seedLocation, e);
+            }
+        } else {
+            log.warn("질문 은행 시드를 찾을 수 없습니다: {}", seedLocation);
+        }
+        int seeded = size();
+        seedCount = seeded;
+
+        if (!storeFile.isBlank()) {
+            Path path = Path.of(storeFile);
+            if (Files.exists(path)) {
+                try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                    load(reader);
+                } catch (IOException e) {
+                    log.warn("질문 은행 저장 파일 로드 실패: {}", path, e);
+                }
+            }
+            storeWriter = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("question-bank-store").daemon().factory());
+        }
+
+        Gauge.builder("interview.question-bank.items", this, QuestionBank::size)
+                .description("질문 은행에 색인된 질문/학습 경로 섹션 수")
+                .register(meterRegistry);
+
+        log.info("질문 은행 로드: 시드 {}개, 누적 {}개, storeFile={}, record={}",
+                seeded, size() - seeded, storeFile.isBlank() ? "-" : storeFile, recordEnabled);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (storeWriter != null) {
+            storeWriter.shutdown();
+            storeWriter.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 색인된 항목 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return items.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 프로필에 가장 가까운 면접 질문 (점수 내림차순, 동점이면 최근 추가 항목 우선)
+     *
+     * @param request 사용자 이력서 정보
+     * @param limit 최대 질문 수
+     * @return 질문 목록 (일치 항목이 부족하면 limit보다 적을 수 있음)
+     */
+    public List<String> findQuestions(InterviewAnalysisRequest request, int limit) {
+        Query query = query(request);
+        lock.readLock().lock();
+        try {
+            Scores scores = score(query);
+            int[] top = new int[limit];
+            float[] topScores = new float[limit];
+            int found = 0;
+            for (int slot = 0; slot < scores.capacity(); slot++) {
+                int id = scores.id(slot);
+                float score = scores.value(slot);
+                if (id < 0 || score <= 0 || items.get(id).kind() != Kind.QUESTION) {
+                    continue;
+                }
+                // 삽입 정렬로 상위 limit개 유지 (limit은 한 자릿수, 동점이면 최근 추가 항목 우선)
+                int position = found < limit ? found++ : limit;
+                while (position > 0 && (topScores[position - 1] < score
+                        || topScores[position - 1] == score && top[position - 1] < id)) {
+                    if (position < limit) {
+                        top[position] = top[position - 1];
+                        topScores[position] = topScores[position - 1];
+                    }
+                    position--;
+                }
+                if (position < limit) {
+                    top[position] = id;
+                    topScores[position] = score;
+                }
+            }
+            List<String> questions = new ArrayList<>(found);
+            for (int i = 0; i < found; i++) {
+                questions.add(items.get(top[i]).text());
+            }
+            return questions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 종류별(단기/중기/장기/추천 리소스)로 가장 가까운 섹션을 골라 조립한 학습 경로 HTML
+     *
+     * @param request 사용자 이력서 정보
+     * @return 학습 경로 HTML (일치하는 섹션이 하나도 없으면 empty)
+     */
+    public Optional<String> findLearningPath(InterviewAnalysisRequest request) {
+        Query query = query(request);
+        lock.readLock().lock();
+        try {
+            Scores scores = score(query);
+            Map<Kind, Integer> best = new EnumMap<>(Kind.class);
+            Map<Kind, Float> bestScores = new EnumMap<>(Kind.class);
+            for (int slot = 0; slot < scores.capacity(); slot++) {
+                int id = scores.id(slot);
+                float score = scores.value(slot);
+                if (id < 0 || score <= 0 || items.get(id).kind() == Kind.QUESTION) {
+                    continue;
+                }
+                Kind kind = items.get(id).kind();
+                Integer current = best.get(kind);
+                if (current == null || bestScores.get(kind) < score || bestScores.get(kind) == score && current < id) {
+                    best.put(kind, id);
+                    bestScores.put(kind, score);
+                }
+            }
+            if (best.isEmpty()) {
+                return Optional.empty();
+            }
+            StringBuilder html = new StringBuilder();
+            for (int index : best.values()) {
+                String section = items.get(index).text();
+                html.append(section);
+                if (!section.endsWith("\n")) {
+                    html.append('\n');
+                }
+            }
+            return Optional.of(html.toString());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gemini가 정상 생성한 결과를 은행에 추가 (이미 있는 문구는 건너뜀)
+     * 학습 경로는 h2/h3 헤딩 단위 섹션으로 나눠 헤딩 문구로 종류를 판정하며, 판정되지 않는 섹션은 버림
+     *
+     * @param request 사용자 이력서 정보
+     * @param questions 생성된 면접 질문 (대체 콘텐츠였다면 빈 목록)
+     * @param learningPathHtml 생성된 학습 경로 HTML (대체 콘텐츠였다면 null)
+     */
+    public void record(InterviewAnalysisRequest request, List<String> questions, String learningPathHtml) {
+        if (!recordEnabled) {
+            return;
+        }
+        Query query = query(request);
+        List<String> lines = new ArrayList<>();
+        for (String question : questions) {
+            addRecorded(Kind.QUESTION, query, question, lines);
+        }
+        if (learningPathHtml != null) {
+            for (String section : splitSections(learningPathHtml)) {
+                Kind kind = sectionKind(section);
+                if (kind != null) {
+                    addRecorded(kind, query, section, lines);
+                }
+            }
+        }
+        if (!lines.isEmpty() && storeWriter != null) {
+            storeWriter.execute(() -> append(lines));
+        }
+    }
+
+    private void addRecorded(Kind kind, Query query, String text, List<String> lines) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        if (add(kind, query.position(), query.level(), query.skills().keySet(), text)) {
+            lines.add(String.join("\t", kind.name(), query.position(), query.level() != null ? query.level() : "",
+                    String.join(",", query.skills().keySet()), escape(text)));
+        }
+    }
+
+    private void append(List<String> lines) {
+        try {
+            Files.write(Path.of(storeFile), lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("질문 은행 저장 실패: {}", storeFile, e);
+        }
+    }
+
+    /**
+     * TSV 항목 읽기 (#으로 시작하는 줄과 빈 줄은 무시)
+     */
+    private void load(Reader source) throws IOException {
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] columns = line.split("\t", -1);
+            if (columns.length != 5) {
+                log.warn("질문 은행 항목 형식 오류 ({}행): 열 {}개", lineNumber, columns.length);
+                continue;
+            }
+            try {
+                Set<String> skills = Arrays.stream(columns[3].split(","))
+                        .map(this::skillTag)
+                        .filter(skill -> !skill.isEmpty())
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+                add(Kind.valueOf(columns[0].trim()), columns[1].trim(),
+                        columns[2].isBlank() ? null : columns[2].trim(), skills, unescape(columns[4]));
+            } catch (IllegalArgumentException e) {
+                log.warn("질문 은행 항목 형식 오류 ({}행): {}", lineNumber, e.getMessage());
+            }
+        }
+    }
+
+    private boolean add(Kind kind, String position, String level, Set<String> skills, String text) {
+        lock.writeLock().lock();
+        try {
+            if (texts.contains(text) || maxItems <= seedCount) {
+                return false;
+            }
+            if (items.size() >= maxItems) {
+                evictOldest();
+            }
+            texts.add(text);
+            Item item = new Item(kind, position, level, Set.copyOf(skills), text);
+            items.add(item);
+            index(items.size() - 1, item);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가장 오래된 누적 항목을 max-items의 EVICTION_RATIO만큼 밀어내고 색인 재구성 (쓰기 잠금 안에서 호출)
+     */
+    private void evictOldest() {
+        int evictable = items.size() - seedCount;
+        int count = Math.min(evictable, Math.max(1, (int) (maxItems * EVICTION_RATIO)));
+        List<Item> evicted = items.subList(seedCount, seedCount + count);
+        for (Item item : evicted) {
+            texts.remove(item.text());
+        }
+        evicted.clear();
+
+        postings.clear();
+        for (int id = 0; id < items.size(); id++) {
+            index(id, items.get(id));
+        }
+        log.info("질문 은행 최대 항목 수({}) 도달, 오래된 누적 항목 {}개 제거", maxItems, count);
+    }
+
+    private void index(int id, Item item) {
+        postings.computeIfAbsent("position:" + item.position(), key -> new Postings()).add(id);
+        for (String skill : item.skills()) {
+            postings.computeIfAbsent("skill:" + skill, key -> new Postings()).add(id);
+        }
+    }
+
+    /**
+     * 일치한 항목의 점수 (읽기 잠금 안에서 호출, 0 이하는 제외 대상)
+     * 일치한 게시 목록 길이만큼의 희소 점수표에 누적하므로 전체 항목 수만큼의 배열을 만들지 않음
+     */
+    private Scores score(Query query) {
+        Postings positionMatched = postings.get("position:" + query.position());
+        Postings generalMatched = GENERAL.equals(query.position()) ? null : postings.get("position:" + GENERAL);
+        List<Postings> skillMatched = new ArrayList<>(query.skills().size());
+        List<Float> skillWeights = new ArrayList<>(query.skills().size());
+        int touched = size(positionMatched) + size(generalMatched);
+        for (Map.Entry<String, Integer> skill : query.skills().entrySet()) {
+            Postings matched = postings.get("skill:" + skill.getKey());
+            if (matched != null) {
+                float idf = 1f + (float) Math.log((double) items.size() / matched.size);
+                skillMatched.add(matched);
+                skillWeights.add(idf * (1f + (float) Math.log(skill.getValue())));
+                touched += matched.size;
+            }
+        }
+
+        Scores scores = new Scores(touched);
+        scores.accumulate(positionMatched, POSITION_WEIGHT);
+        scores.accumulate(generalMatched, GENERAL_WEIGHT);
+        for (int i = 0; i < skillMatched.size(); i++) {
+            scores.accumulate(skillMatched.get(i), skillWeights.get(i));
+        }
+        if (query.level() != null) {
+            for (int slot = 0; slot < scores.capacity(); slot++) {
+                int id = scores.id(slot);
+                String level = id >= 0 ? items.get(id).level() : null;
+                if (level != null && scores.value(slot) > 0) {
+                    scores.set(slot, level.equals(query.level()) ? scores.value(slot) + LEVEL_WEIGHT : 0);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private static int size(Postings matched) {
+        return matched != null ? matched.size : 0;
+    }
+
+    /**
+     * 희망 직무 문구를 직무 분류로 변환 (일치하는 분류가 없으면 general)
+     */
+    static String positionTag(String position) {
+        String text = ProfileFingerprint.normalizeText(position);
+        for (Map.Entry<String, List<String>> entry : POSITION_KEYWORDS) {
+            for (String keyword : entry.getValue()) {
+                if (text.contains(keyword)) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return GENERAL;
+    }
+
+    /**
+     * 경력 문구를 경력 수준(junior: 신입~1년, mid: 2~4년, senior: 5년 이상)으로 변환 (판정 불가 시 null)
+     */
+    static String levelTag(String experience) {
+        String text = ProfileFingerprint.normalizeText(experience);
+        if (text.isEmpty()) {
+            return null;
+        }
+        if (text.contains("신입") || text.contains("인턴") || text.contains("주니어") || text.contains("junior")) {
+            return "junior";
+        }
+        if (text.contains("시니어") || text.contains("senior") || text.contains("리드") || text.contains("lead")) {
+            return "senior";
+        }
+        Matcher years = YEARS.matcher(text);
+        if (years.find()) {
+            int value = Integer.parseInt(years.group(1).length() > 2 ? "99" : years.group(1));
+            return value <= 1 ? "junior" : value <= 4 ? "mid" : "senior";
+        }
+        return null;
+    }
+
+    /**
+     * 요청의 기술 스킬 태그와 등장 횟수
+     * 텍스트 필드 전체에서 사전 스킬을 추출하고, 기술 스킬 필드에 적었지만 사전에 없는 스킬도 그대로 태그로 추가
+     */
+    private Map<String, Integer> skillTags(InterviewAnalysisRequest request) {
+        Map<String, Integer> skills = new LinkedHashMap<>();
+        for (SkillDictionary.SkillMatch match : skillDictionary.extract(request)) {
+            skills.put(match.keyword(), match.count());
+        }
+        for (String field : new String[]{request.getFront(), request.getBack(), request.getDevops(), request.getEtc()}) {
+            String normalized = ProfileFingerprint.normalizeSkills(field);
+            if (!normalized.isEmpty()) {
+                for (String skill : normalized.split(",")) {
+                    skills.putIfAbsent(skillTag(skill), 1);
+                }
+            }
+        }
+        return skills;
+    }
+
+    /**
+     * 단일 스킬 문자열의 태그 (사전 keyword, 사전에 없으면 정규화한 입력)
+     */
+    private String skillTag(String skill) {
+        String keyword = skillDictionary.canonical(skill);
+        return keyword != null ? keyword : ProfileFingerprint.normalizeText(skill);
+    }
+
+    private Query query(InterviewAnalysisRequest request) {
+        return new Query(positionTag(request.getPosition()), levelTag(request.getExperience()), skillTags(request));
+    }
+
+    private static List<String> splitSections(String html) {
+        List<String> sections = new ArrayList<>();
+        Matcher matcher = SECTION_START.matcher(html);
+        int start = -1;
+        while (matcher.find()) {
+            if (start >= 0) {
+                sections.add(html.substring(start, matcher.start()).strip() + "\n");
+            }
+            start = matcher.start();
+        }
+        if (start >= 0) {
+            sections.add(html.substring(start).strip() + "\n");
+        }
+        return sections;
+    }
+
+    /**
+     * 섹션 헤딩 문구로 종류 판정
+     */
+    private static Kind sectionKind(String section) {
+        int headingEnd = section.indexOf("</h");
+        if (headingEnd < 0) {
+            return null;
+        }
+        String heading = TAG.matcher(section.substring(0, headingEnd)).replaceAll("");
+        if (heading.contains("단기")) {
+            return Kind.SHORT_TERM;
+        }
+        if (heading.contains("중기")) {
+            return Kind.MID_TERM;
+        }
+        if (heading.contains("장기")) {
+            return Kind.LONG_TERM;
+        }
+        if (heading.contains("리소스") || heading.contains("자료")) {
+            return Kind.RESOURCES;
+        }
+        return null;
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "");
+    }
+
+    private static String unescape(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char next = text.charAt(++i);
+                result.append(switch (next) {
+                    case 'n' -> '\n';
+                    case 't' -> '\t';
+                    default -> next;
+                });
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private record Item(Kind kind, String position, String level, Set<String> skills, String text) {
+    }
+
+    /**
+     * 조회/기록 기준 태그 (skills: 스킬 태그 → 요청 내 등장 횟수)
+     */
+    private record Query(String position, String level, Map<String, Integer> skills) {
+    }
+
+    /**
+     * 항목 번호 게시 목록 (추가 순서 = 오름차순)
+     */
+    private static final class Postings {
+
+        private int[] ids = new int[8];
+
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+
+    /**
+     * 항목 번호 → 점수 희소 표 (선형 탐사 해시, 빈 칸은 번호 -1)
+     */
+    private static final class Scores {
+
+        private final int[] ids;
+
+        private final float[] values;
+
+        private final int mask;
+
+        Scores(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(4, expected * 2) - 1) << 1;
+            ids = new int[capacity];
+            values = new float[capacity];
+            mask = capacity - 1;
+            Arrays.fill(ids, -1);
+        }
+
+        void accumulate(Postings matched, float weight) {
+            if (matched == null) {
+                return;
+            }
+            for (int i = 0; i < matched.size; i++) {
+                int id = matched.ids[i];
+                int slot = (id * 0x9E3779B9) >>> 1 & mask;
+                while (ids[slot] != -1 && ids[slot] != id) {
+                    slot = (slot + 1) & mask;
+                }
+                ids[slot] = id;
+                values[slot] += weight;
+            }
+        }
+
+        int capacity() {
+            return ids.length;
+        }
+
+        int id(int slot) {
+            return ids[slot];
+        }
+
+        float value(int slot) {
+            return values[slot];
+        }
+
+        void set(int slot, float value) {
+            values[slot] = value;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package test.test.Interview;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모델 응답에서 번호 매긴 면접 질문 추출기
+ * 정규식 없이 텍스트를 한 번만 훑으며, 응답 전체 또는 스트리밍 조각 단위 입력을 모두 처리
+ *
+ * <p>인식하는 번호 형식: {@code 1.}, {@code 1)}, {@code 1:}, {@code **1.**}, {@code ### 1.}, {@code Q1.}, {@code 질문 1:}, {@code 1번.}
+ * 번호 없는 줄은 직전 질문의 이어지는 줄로 합치고, 빈 줄은 질문을 마무리함
+ * 첫 질문보다 깊게 들여쓴 번호 줄(하위 목록)은 새 질문이 아닌 이어지는 줄로 취급
+ */
+@Component
+public class QuestionExtractor {
+
+    /**
+     * 응답 전체에서 질문 추출
+     *
+     * @param text 모델 응답 텍스트
+     * @param limit 최대 질문 수
+     * @return 번호와 짝이 맞는 마크다운 강조를 제거한 질문 목록
+     */
+    public List<String> extract(String text, int limit) {
+        Session session = newSession(limit);
+        List<String> questions = new ArrayList<>(session.feed(text));
+        questions.addAll(session.finish());
+        return questions;
+    }
+
+    /**
+     * 조각 단위 입력용 추출 세션 생성
+     *
+     * @param limit 최대 질문 수
+     * @return 새 세션 (스레드 안전하지 않으므로 스트림 하나에서만 사용)
+     */
+    public Session newSession(int limit) {
+        return new Session(limit);
+    }
+
+    /**
+     * 증분 추출 세션
+     * feed로 들어온 조각에서 완성된 질문을 즉시 반환하고, finish에서 남은 질문을 반환
+     */
+    public static final class Session {
+
+        private final int limit;
+
+        /**
+         * 아직 개행을 만나지 못한 줄
+         */
+        private final StringBuilder pending = new StringBuilder();
+
+        /**
+         * 작성 중인 질문 (번호 줄을 만난 뒤 다음 번호/빈 줄 전까지)
+         */
+        private final StringBuilder current = new StringBuilder();
+
+        private boolean open;
+
+        /**
+         * 질문 번호 줄의 들여쓰기 (첫 질문에서 결정, 이보다 깊은 번호 줄은 하위 항목)
+         */
+        private int questionIndent = -1;
+
+        private int emitted;
+
+        private Session(int limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * 텍스트 조각 입력
+         *
+         * @param chunk 응답 텍스트 조각 (줄 경계와 무관)
+         * @return 이번 조각으로 완성된 질문 (없으면 빈 목록)
+         */
+        public List<String> feed(CharSequence chunk) {
+            if (isDone()) {
+                return List.of();
+            }
+            pending.append(chunk);
+
+            List<String> completed = null;
+            int lineStart = 0;
+            for (int i = 0; i < pending.length() && !isDone(); i++) {
+                if (pending.charAt(i) == '\n') {
+                    completed = acceptLine(lineStart, i, completed);
+                    lineStart = i + 1;
+                }
+            }
+            pending.delete(0, isDone() ? pending.length() : lineStart);
+            return completed != null ? completed : List.of();
+        }
+
+        /**
+         * 입력 종료 (마지막 줄과 작성 중인 질문을 마무리)
+         *
+         * @return 남은 질문 (없으면 빈 목록)
+         */
+        public List<String> finish() {
+            List<String> completed = null;
+            if (!isDone() && !pending.isEmpty()) {
+                completed = acceptLine(0, pending.length(), null);
+            }
+            pending.setLength(0);
+            completed = close(completed);
+            return completed != null ? completed : List.of();
+        }
+
+        /**
+         * 최대 질문 수에 도달했는지 여부
+         */
+        public boolean isDone() {
+            return emitted >= limit;
+        }
+
+        private List<String> acceptLine(int start, int end, List<String> completed) {
+            // 앞뒤 공백 제거 (범위만 조정하여 부분 문자열을 만들지 않음)
+            int indent = 0;
+            while (start < end && Character.isWhitespace(pending.charAt(start))) {
+                indent += pending.charAt(start) == '\t' ? 4 : 1;
+                start++;
+            }
+            while (end > start && Character.isWhitespace(pending.charAt(end - 1))) {
+                end--;
+            }
+
+            if (start == end) {
+                return close(completed);
+            }
+
+            int bodyStart = markerEnd(pending, start, end);
+            if (bodyStart >= 0 && (questionIndent < 0 || indent <= questionIndent)) {
+                completed = close(completed);
+                if (isDone()) {
+                    return completed;
+                }
+                questionIndent = questionIndent < 0 ? indent : Math.min(questionIndent, indent);
+                open = true;
+                // 번호 앞에서 열린 강조가 본문 끝에서 닫히는 경우(**1. 질문**) 짝을 맞추기 위해 여는 기호를 복원
+                appendText(bodyStart, end);
+                char emphasis = unclosedEmphasis(pending, start, bodyStart);
+                if (emphasis != 0) {
+                    current.insert(0, new char[]{emphasis, emphasis});
+                }
+            } else if (open) {
+                appendText(start, end);
+            }
+            return completed;
+        }
+
+        private void appendText(int start, int end) {
+            if (!current.isEmpty() && start < end) {
+                current.append(' ');
+            }
+            current.append(pending, start, end);
+        }
+
+        private List<String> close(List<String> completed) {
+            if (!open) {
+                return completed;
+            }
+            open = false;
+
+            int end = current.length();
+            while (end > 0 && Character.isWhitespace(current.charAt(end - 1))) {
+                end--;
+            }
+            int start = 0;
+            while (start < end && Character.isWhitespace(current.charAt(start))) {
+                start++;
+            }
+            if (start < end && !isDone()) {
+                if (completed == null) {
+                    completed = new ArrayList<>(2);
+                }
+                completed.add(stripEmphasis(current, start, end));
+                emitted++;
+            }
+            current.setLength(0);
+            return completed;
+        }
+    }
+
+    /**
+     * 줄이 질문 번호로 시작하면 번호 뒤 본문 시작 위치를, 아니면 -1 반환
+     */
+    static int markerEnd(CharSequence line, int start, int end) {
+        int p = start;
+
+        // 마크다운 헤딩 (### 1. ...)
+        while (p < end && line.charAt(p) == '#') {
+            p++;
+        }
+        p = skipSpaces(line, p, end);
+
+        // 강조 시작 (**1.** ...)
+        boolean bold = isEmphasis(line, p, end);
+        if (bold) {
+            p += 2;
+        }
+
+        // 접두어 (Q1, 질문 1)
+        boolean prefixed = false;
+        if (p < end && (line.charAt(p) == 'Q' || line.charAt(p) == 'q')) {
+            p++;
+            prefixed = true;
+        } else if (p + 1 < end && line.charAt(p) == '질' && line.charAt(p + 1) == '문') {
+            p = skipSpaces(line, p + 2, end);
+            prefixed = true;
+        }
+
+        int digitsStart = p;
+        while (p < end && p - digitsStart < 3 && isDigit(line.charAt(p))) {
+            p++;
+        }
+        if (p == digitsStart || (p < end && isDigit(line.charAt(p)))) {
+            return -1;
+        }
+
+        // 접미어 (1번)
+        boolean suffixed = false;
+        if (p < end && line.charAt(p) == '번') {
+            p++;
+            suffixed = true;
+        }
+
+        if (p < end && (line.charAt(p) == '.' || line.charAt(p) == ')' || line.charAt(p) == ':')) {
+            p++;
+            // 1.5배 같은 소수는 번호가 아님
+            if (p < end && isDigit(line.charAt(p))) {
+                return -1;
+            }
+        } else if (!(prefixed || suffixed) || (p < end && !Character.isWhitespace(line.charAt(p)) && !isEmphasis(line, p, end))) {
+            // 구분 기호 없는 숫자는 접두어/접미어가 있을 때만 번호로 인정 (예: "질문 1 ...", "1번 ...")
+            return -1;
+        }
+
+        if (bold && isEmphasis(line, p, end)) {
+            p += 2;
+        }
+        return skipSpaces(line, p, end);
+    }
+
+    /**
+     * 번호 앞부분에서 열리고 닫히지 않은 강조 기호 (없으면 0)
+     */
+    private static char unclosedEmphasis(CharSequence line, int start, int bodyStart) {
+        char unclosed = 0;
+        for (int p = start; p < bodyStart; p++) {
+            if (isEmphasis(line, p, bodyStart)) {
+                unclosed = unclosed == 0 ? line.charAt(p) : 0;
+                p++;
+            }
+        }
+        return unclosed;
+    }
+
+    /**
+     * 짝이 맞는 마크다운 강조(**, __)만 제거
+     * 코드(`...`) 안이나 공백에 붙은 기호, 식별자만 감싼 __(예: __init__)는 그대로 유지
+     */
+    static String stripEmphasis(CharSequence text, int start, int end) {
+        StringBuilder result = new StringBuilder(end - start);
+        boolean[] removed = new boolean[end - start];
+        boolean code = false;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '`') {
+                code = !code;
+            } else if (!code && !removed[i - start] && isEmphasis(text, i, end)) {
+                int close = closingEmphasis(text, i, end);
+                if (close >= 0) {
+                    removed[i - start] = removed[i + 1 - start] = true;
+                    removed[close - start] = removed[close + 1 - start] = true;
+                }
+                i++;
+            }
+        }
+        for (int i = start; i < end; i++) {
+            if (!removed[i - start]) {
+                result.append(text.charAt(i));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * open 위치의 여는 강조 기호와 짝을 이루는 닫는 기호 위치 (없으면 -1)
+     */
+    private static int closingEmphasis(CharSequence text, int open, int end) {
+        char c = text.charAt(open);
+        int contentStart = open + 2;
+        if (contentStart >= end || Character.isWhitespace(text.charAt(contentStart))) {
+            return -1;
+        }
+        for (int i = contentStart + 1; i + 1 < end; i++) {
+            char ch = text.charAt(i);
+            if (ch == '`') {
+                return -1;
+            }
+            if (ch == c && text.charAt(i + 1) == c && !Character.isWhitespace(text.charAt(i - 1))) {
+                if (c == '_' && isIdentifier(text, contentStart, i)) {
+                    return -1;
+                }
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isIdentifier(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char ch = text.charAt(i);
+            if (!(ch < 128 && (Character.isLetterOrDigit(ch) || ch == '_'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEmphasis(CharSequence line, int p, int end) {
+        if (p + 1 >= end) {
+            return false;
+        }
+        char c = line.charAt(p);
+        return (c == '*' || c == '_') && line.charAt(p + 1) == c;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int skipSpaces(CharSequence line, int p, int end) {
+        while (p < end && Character.isWhitespace(line.charAt(p))) {
+            p++;
+        }
+        return p;
+    }
+}
@@ -0,0 +1,37 @@
+package test.test.Interview;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * NDJSON 일괄 분석 컨트롤러 (리액티브 런타임 전용)
+ * 요청 본문을 줄 단위 Flux로 받아 배압에 맞춰 처리
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/interview")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBatchNdjsonController {
+
+    private final BatchAnalysisService batchAnalysisService;
+
+    /**
+     * NDJSON 요청 스트림 일괄 분석
+     *
+     * @param lines 한 줄에 InterviewAnalysisRequest 하나씩 담긴 요청 본문
+     * @return 완료 순서대로의 분석 결과
+     */
+    @PostMapping(value = "/analyze/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BatchAnalysisResult> analyzeBatchNdjson(@RequestBody Flux<String> lines) {
+        log.info("NDJSON 일괄 분석 요청 수신");
+        return batchAnalysisService.analyzeNdjson(lines);
+    }
+}
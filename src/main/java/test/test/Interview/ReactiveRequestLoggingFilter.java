@@ -0,0 +1,45 @@
+package test.test.Interview;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리액티브 요청/응답 로깅 필터
+ * RequestLoggingFilter의 리액티브 런타임 버전으로, 본문을 버퍼링하지 않고 요청 메타데이터와 응답 상태만 기록
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRequestLoggingFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+
+        // Interview API 요청만 로깅
+        if (!log.isDebugEnabled() || !request.getPath().value().startsWith("/api/interview")) {
+            return chain.filter(exchange);
+        }
+
+        long startTime = System.currentTimeMillis();
+        log.debug("=== 요청 정보 ===");
+        log.debug("Method: {}", request.getMethod());
+        log.debug("URI: {}", request.getURI());
+        log.debug("Content-Type: {}", request.getHeaders().getContentType());
+        log.debug("Content Length: {}", request.getHeaders().getContentLength());
+
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    log.debug("=== 응답 정보 ===");
+                    log.debug("Status: {}", exchange.getResponse().getStatusCode());
+                    log.debug("Content-Type: {}", exchange.getResponse().getHeaders().getContentType());
+                    log.debug("처리 시간: {}ms ({})", System.currentTimeMillis() - startTime, signal);
+                });
+    }
+}
@@ -1,84 +1,380 @@
 package test.test.Interview;
 
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * 요청/응답 로깅 필터
- * UTF-8 인코딩 문제 디버깅을 위한 로깅
+ * 요청/응답 로깅 필터 (서블릿 런타임 전용)
+ * 본문을 버퍼에 모으지 않고 그대로 흘려보내면서 앞부분(최대 max-body-bytes)만 복사해 두었다가 요청 완료 시 한 줄로 기록
+ * 응답을 지연시키지 않으므로 SSE/NDJSON 스트리밍 응답에도 적용 가능
+ * DEBUG가 꺼져 있고 샘플링 대상도 아니면 래퍼를 만들지 않고 바로 통과
  */
 @Slf4j
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
+    private static final String START_NANOS_ATTRIBUTE = RequestLoggingFilter.class.getName() + ".startNanos";
+
+    /**
+     * 본문 기록 최대 길이 (바이트)
+     */
+    @Value("${interview.logging.http.max-body-bytes:1024}")
+    private int maxBodyBytes;
+
+    /**
+     * DEBUG가 꺼져 있을 때 INFO로 기록할 샘플링 비율 (N건 중 1건, 0이면 기록 안 함)
+     */
+    @Value("${interview.logging.http.sample-rate:0}")
+    private int sampleRate;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/interview");
+    }
+
+    /**
+     * 컨트롤러가 Mono/Flux를 반환하면 응답은 비동기 디스패치에서 완료되므로 해당 디스패치에서 기록
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        
-        // Interview API 요청만 로깅
-        if (!request.getRequestURI().startsWith("/api/interview")) {
-            filterChain.doFilter(request, response);
-            return;
-        }
 
-        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        HttpServletRequest requestToUse = request;
+        HttpServletResponse responseToUse = response;
+
+        // 비동기 디스패치에는 최초 디스패치에서 만든 래퍼가 (다른 래퍼에 감싸진 채로) 다시 전달됨
+        if (!isAsyncDispatch(request)) {
+            Level level = logLevel();
+            if (level == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+            requestToUse = new PrefixCapturingRequest(request, maxBodyBytes);
+            responseToUse = new PrefixCapturingResponse(response, maxBodyBytes, level);
+        }
 
         try {
-            filterChain.doFilter(requestWrapper, responseWrapper);
+            filterChain.doFilter(requestToUse, responseToUse);
         } finally {
-            logRequestDetails(requestWrapper);
-            logResponseDetails(responseWrapper);
-            responseWrapper.copyBodyToResponse();
+            if (!isAsyncStarted(requestToUse)) {
+                PrefixCapturingRequest capturedRequest = WebUtils.getNativeRequest(requestToUse, PrefixCapturingRequest.class);
+                PrefixCapturingResponse capturedResponse = WebUtils.getNativeResponse(responseToUse, PrefixCapturingResponse.class);
+                if (capturedRequest != null && capturedResponse != null) {
+                    logExchange(capturedRequest, capturedResponse);
+                }
+            }
         }
     }
 
-    private void logRequestDetails(ContentCachingRequestWrapper request) {
+    /**
+     * 이번 요청의 기록 레벨 (기록하지 않으면 null)
+     */
+    private Level logLevel() {
+        if (log.isDebugEnabled()) {
+            return Level.DEBUG;
+        }
+        if (sampleRate > 0 && log.isInfoEnabled() && ThreadLocalRandom.current().nextInt(sampleRate) == 0) {
+            return Level.INFO;
+        }
+        return null;
+    }
+
+    private void logExchange(PrefixCapturingRequest request, PrefixCapturingResponse response) {
         try {
-            String requestBody = new String(request.getContentAsByteArray(), StandardCharsets.UTF_8);
-            log.debug("=== 요청 정보 ===");
-            log.debug("Method: {}", request.getMethod());
-            log.debug("URI: {}", request.getRequestURI());
-            log.debug("Content-Type: {}", request.getContentType());
-            log.debug("Character Encoding: {}", request.getCharacterEncoding());
-            log.debug("Content Length: {}", request.getContentLength());
-            
-            if (!requestBody.isEmpty()) {
-                log.debug("Request Body: {}", requestBody);
-                // 바이트 배열로 인코딩 체크
-                byte[] bytes = requestBody.getBytes(StandardCharsets.UTF_8);
-                log.debug("Body bytes length: {}", bytes.length);
-            }
-            
+            Object startNanos = request.getAttribute(START_NANOS_ATTRIBUTE);
+            long elapsedMs = startNanos instanceof Long start ? (System.nanoTime() - start) / 1_000_000 : -1;
+
+            log.atLevel(response.level)
+                    .setMessage("{} {} -> {} ({}ms) 요청[{}, {}B]: {} / 응답[{}, {}B]: {}")
+                    .addArgument(request.getMethod())
+                    .addArgument(request.getRequestURI())
+                    .addArgument(response.getStatus())
+                    .addArgument(elapsedMs)
+                    .addArgument(request.getContentType())
+                    .addArgument(request.body.total)
+                    .addArgument(() -> request.body.decode(request.getCharacterEncoding()))
+                    .addArgument(response.getContentType())
+                    .addArgument(response.body.total)
+                    .addArgument(() -> response.body.decode(response.getCharacterEncoding()))
+                    .log();
         } catch (Exception e) {
             log.error("요청 로깅 중 오류 발생", e);
         }
     }
 
-    private void logResponseDetails(ContentCachingResponseWrapper response) {
-        try {
-            String responseBody = new String(response.getContentAsByteArray(), StandardCharsets.UTF_8);
-            log.debug("=== 응답 정보 ===");
-            log.debug("Status: {}", response.getStatus());
-            log.debug("Content-Type: {}", response.getContentType());
-            log.debug("Character Encoding: {}", response.getCharacterEncoding());
-            
-            if (!responseBody.isEmpty() && responseBody.length() < 1000) { // 너무 긴 응답은 제외
-                log.debug("Response Body: {}", responseBody);
+    /**
+     * 본문 앞부분 복사본 (최대 길이까지만 보관하고 전체 길이는 계속 집계)
+     */
+    private static final class BodyPrefix {
+
+        private final byte[] bytes;
+
+        private final StringBuilder chars = new StringBuilder();
+
+        private int size;
+
+        private long total;
+
+        BodyPrefix(int maxBytes) {
+            this.bytes = new byte[Math.max(0, maxBytes)];
+        }
+
+        void write(int b) {
+            if (size < bytes.length) {
+                bytes[size++] = (byte) b;
             }
-            
-        } catch (Exception e) {
-            log.error("응답 로깅 중 오류 발생", e);
+            total++;
+        }
+
+        void write(byte[] b, int off, int len) {
+            int copy = Math.min(len, bytes.length - size);
+            if (copy > 0) {
+                System.arraycopy(b, off, bytes, size, copy);
+                size += copy;
+            }
+            total += len;
+        }
+
+        /**
+         * Reader/Writer 경로의 문자 본문 (바이트 한도를 문자 수 한도로 사용)
+         */
+        void write(CharSequence c, int off, int len) {
+            int copy = Math.min(len, bytes.length - chars.length());
+            if (copy > 0) {
+                chars.append(c, off, off + copy);
+            }
+            total += len;
+        }
+
+        String decode(String encoding) {
+            if (total == 0) {
+                return "";
+            }
+            String text = !chars.isEmpty()
+                    ? chars.toString()
+                    : new String(bytes, 0, size, encoding != null && Charset.isSupported(encoding)
+                            ? Charset.forName(encoding) : StandardCharsets.UTF_8);
+            return total > Math.max(size, chars.length()) ? text + "...(생략)" : text;
+        }
+    }
+
+    private static final class PrefixCapturingRequest extends HttpServletRequestWrapper {
+
+        private final BodyPrefix body;
+
+        private ServletInputStream inputStream;
+
+        private BufferedReader reader;
+
+        PrefixCapturingRequest(HttpServletRequest request, int maxBytes) {
+            super(request);
+            this.body = new BodyPrefix(maxBytes);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new TeeInputStream(super.getInputStream(), body);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                String encoding = getCharacterEncoding();
+                reader = new BufferedReader(new InputStreamReader(getInputStream(),
+                        encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+            }
+            return reader;
+        }
+    }
+
+    private static final class PrefixCapturingResponse extends HttpServletResponseWrapper {
+
+        private final BodyPrefix body;
+
+        private final Level level;
+
+        private ServletOutputStream outputStream;
+
+        private PrintWriter writer;
+
+        PrefixCapturingResponse(HttpServletResponse response, int maxBytes, Level level) {
+            super(response);
+            this.body = new BodyPrefix(maxBytes);
+            this.level = level;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new TeeOutputStream(super.getOutputStream(), body);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new TeeWriter(super.getWriter(), body));
+            }
+            return writer;
+        }
+    }
+
+    private static final class TeeInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+
+        private final BodyPrefix body;
+
+        TeeInputStream(ServletInputStream delegate, BodyPrefix body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+                body.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read > 0) {
+                body.write(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+
+    private static final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private final BodyPrefix body;
+
+        TeeOutputStream(ServletOutputStream delegate, BodyPrefix body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            body.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            body.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private static final class TeeWriter extends Writer {
+
+        private final Writer delegate;
+
+        private final BodyPrefix body;
+
+        TeeWriter(Writer delegate, BodyPrefix body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            delegate.write(cbuf, off, len);
+            body.write(CharBuffer.wrap(cbuf), off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            delegate.write(str, off, len);
+            body.write(str, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
         }
     }
-}
\ No newline at end of file
+}
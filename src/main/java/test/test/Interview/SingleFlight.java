@@ -0,0 +1,50 @@
+package test.test.Interview;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 요청 병합기 (single-flight)
+ * 같은 키로 진행 중인 작업이 있으면 새로 시작하지 않고 그 결과를 함께 구독
+ * 모든 구독자가 취소하면 진행 중인 업스트림 작업도 취소되고 다음 요청이 새로 시작
+ *
+ * @param <T> 결과 타입
+ */
+@Slf4j
+public class SingleFlight<T> {
+
+    private final ConcurrentMap<String, Mono<T>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 키에 해당하는 진행 중 작업에 합류하거나, 없으면 새로 시작
+     *
+     * @param key 병합 기준 키
+     * @param supplier 실제 작업 (첫 요청에서만 호출)
+     * @return 공유된 작업 결과
+     */
+    public Mono<T> join(String key, Supplier<Mono<T>> supplier) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> share(k, supplier.get())));
+    }
+
+    private Mono<T> share(String key, Mono<T> source) {
+        AtomicReference<Mono<T>> self = new AtomicReference<>();
+        // 결과가 구독자에게 전달되기 전에 맵에서 제거하여, 완료 직후 도착한 요청이 끝난 작업에 합류하지 않도록 함
+        Mono<T> shared = source
+                .doOnEach(signal -> inFlight.remove(key, self.get()))
+                .doOnCancel(() -> {
+                    log.debug("모든 구독자가 취소하여 진행 중인 작업 취소: key={}", key);
+                    inFlight.remove(key, self.get());
+                })
+                .flux()
+                .publish()
+                .refCount(1)
+                .singleOrEmpty();
+        self.set(shared);
+        return shared;
+    }
+}
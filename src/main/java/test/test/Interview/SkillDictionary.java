@@ -0,0 +1,438 @@
+package test.test.Interview;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 기술 스킬 사전
+ * 사전 파일(keyword, 표시 이름, 한/영 별칭)을 시작 시 Aho-Corasick 오토마톤으로 컴파일해 두고,
+ * 요청의 텍스트 필드 전체를 한 번만 훑어 정규화된 스킬 키워드와 등장 횟수를 추출
+ *
+ * <p>매칭 규칙
+ * <ul>
+ *     <li>대소문자 무시, 연속 공백은 공백 하나로 취급 (별칭도 같은 방식으로 정규화)</li>
+ *     <li>영문/숫자로 시작하거나 끝나는 별칭은 앞뒤가 영문/숫자가 아닐 때만 일치 (java가 javascript 안에서 일치하지 않도록)</li>
+ *     <li>한글로 시작하는 별칭은 앞이 한글이 아닐 때만, 한글로 끝나는 별칭은 뒤에 붙은 한글이 없거나 조사일 때만 일치
+ *     ("레디스를"은 일치, "일러스트레이터"의 러스트는 불일치)</li>
+ *     <li>'='로 시작하는 별칭은 단일 스킬 문자열의 정확 일치에만 사용하고 본문에서는 찾지 않음
+ *     (go, 스칼라처럼 일반 단어와 겹치는 이름용, keyword/표시 이름에도 적용)</li>
+ *     <li>겹치는 일치는 가장 왼쪽, 그중 가장 긴 별칭 하나만 인정 (spring boot → Spring만 따로 세지 않음)</li>
+ *     <li>필드 경계를 넘어서는 일치는 없음</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SkillDictionary {
+
+    /**
+     * 필드 구분 문자 (정규화된 별칭에는 나오지 않음)
+     */
+    private static final char FIELD_SEPARATOR = '\n';
+
+    private static final int NO_PATTERN = -1;
+
+    /**
+     * 한글 별칭 바로 뒤에 붙어도 일치로 인정하는 조사
+     */
+    private static final Set<String> PARTICLES = Set.of(
+            "은", "는", "이", "가", "을", "를", "의", "에", "와", "과", "로", "으로", "도", "만", "랑", "이랑", "나", "이나",
+            "에서", "에는", "에서는", "으로는", "로는", "까지", "부터", "보다", "처럼", "하고", "이고", "이며", "와의", "과의");
+
+    /**
+     * 정확 일치 전용 별칭 표시
+     */
+    private static final String EXACT_ONLY = "=";
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * 정규화된 별칭 → 항목 번호 (단일 스킬 문자열의 정확 일치 조회용)
+     */
+    private final Map<String, Integer> aliases = new HashMap<>();
+
+    // 별칭(패턴)별 정보
+    private int[] patternEntry;
+
+    private int[] patternLength;
+
+    private boolean[] patternBoundaryStart;
+
+    private boolean[] patternBoundaryEnd;
+
+    private boolean[] patternHangulStart;
+
+    private boolean[] patternHangulEnd;
+
+    // 오토마톤 노드별 정보: 자식 간선은 edgeStart[node]..edgeStart[node + 1] 구간에 문자 오름차순으로 저장
+    private int[] edgeStart;
+
+    private char[] edgeChars;
+
+    private int[] edgeTargets;
+
+    private int[] fail;
+
+    /**
+     * 루트의 전이표 (문자 → 자식 노드, 없으면 루트)
+     * 입력 문자 대부분은 루트에서 처리되므로 이진 탐색 대신 바로 조회
+     */
+    private int[] rootNext;
+
+    /**
+     * 이 노드에서 끝나는 별칭 (없으면 NO_PATTERN)
+     */
+    private int[] output;
+
+    /**
+     * 실패 링크를 따라가며 처음 만나는 출력 노드 (없으면 -1)
+     */
+    private int[] outputLink;
+
+    public SkillDictionary(ResourceLoader resourceLoader,
+                           @Value("${interview.skills.dictionary:classpath:skills/dictionary.tsv}") String location) {
+        List<String> patterns = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        Resource resource = resourceLoader.getResource(location);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", -1);
+                if (columns.length != 3 || columns[0].isBlank()) {
+                    throw new IllegalStateException("기술 스킬 사전 형식 오류 (" + location + " " + lineNumber + "행)");
+                }
+                int entryId = entries.size();
+                entries.add(new Entry(normalize(columns[0]), columns[1].isBlank() ? columns[0].trim() : columns[1].trim()));
+
+                List<String> candidates = new ArrayList<>(List.of(columns[0], columns[1]));
+                candidates.removeIf(alias -> normalize(alias).length() < 2);
+                Set<String> exactOnly = new HashSet<>();
+                for (String candidate : columns[2].split(",")) {
+                    if (candidate.strip().startsWith(EXACT_ONLY)) {
+                        candidate = candidate.strip().substring(EXACT_ONLY.length());
+                        exactOnly.add(normalize(candidate));
+                    }
+                    candidates.add(candidate);
+                }
+                for (String candidate : candidates) {
+                    String alias = normalize(candidate);
+                    if (alias.isEmpty()) {
+                        continue;
+                    }
+                    Integer previous = aliases.putIfAbsent(alias, entryId);
+                    if (previous == null) {
+                        if (!exactOnly.contains(alias)) {
+                            patterns.add(alias);
+                            owners.add(entryId);
+                        }
+                    } else if (previous != entryId) {
+                        log.warn("기술 스킬 별칭 중복 무시: '{}' ({} / {})", alias, entries.get(previous).keyword(), columns[0]);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("기술 스킬 사전을 읽을 수 없습니다: " + location, e);
+        }
+        compile(patterns, owners);
+        log.info("기술 스킬 사전 로드 완료: 스킬 {}개, 별칭 {}개, 노드 {}개 (위치: {})",
+                entries.size(), patterns.size(), fail.length, location);
+    }
+
+    /**
+     * 사전에 등록된 스킬 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 단일 스킬 문자열을 사전 keyword로 변환 (별칭 정확 일치, 예: "스프링부트" → "spring boot")
+     *
+     * @param skill 스킬 문자열
+     * @return 사전 keyword (등록되지 않은 스킬이면 null)
+     */
+    public String canonical(String skill) {
+        Integer entryId = aliases.get(normalize(skill));
+        return entryId != null ? entries.get(entryId).keyword() : null;
+    }
+
+    /**
+     * 요청의 텍스트 필드(희망 직무, 기술 스킬, 프로젝트 경험, 학습 목표)에서 스킬 추출
+     *
+     * @param request 사용자 이력서 정보
+     * @return 등장 횟수 내림차순(동률이면 먼저 나온 순) 스킬 목록
+     */
+    public List<SkillMatch> extract(InterviewAnalysisRequest request) {
+        return extract(request.getPosition(), request.getFront(), request.getBack(), request.getDevops(), request.getEtc(),
+                request.getProjectExperience(), request.getLearningGoals());
+    }
+
+    /**
+     * 여러 텍스트에서 스킬 추출 (null은 건너뜀)
+     *
+     * @param texts 대상 텍스트
+     * @return 등장 횟수 내림차순(동률이면 먼저 나온 순) 스킬 목록
+     */
+    public List<SkillMatch> extract(String... texts) {
+        char[] buffer = normalizeFields(texts);
+        long[] matches = new long[16];
+        int matchCount = 0;
+
+        int node = 0;
+        for (int i = 0; i < buffer.length; i++) {
+            node = next(node, buffer[i]);
+            for (int n = output[node] != NO_PATTERN ? node : outputLink[node]; n >= 0; n = outputLink[n]) {
+                int pattern = output[n];
+                int start = i + 1 - patternLength[pattern];
+                if (patternBoundaryStart[pattern] && start > 0 && isAsciiLetterOrDigit(buffer[start - 1])) {
+                    continue;
+                }
+                if (patternBoundaryEnd[pattern] && i + 1 < buffer.length && isAsciiLetterOrDigit(buffer[i + 1])) {
+                    continue;
+                }
+                if (patternHangulStart[pattern] && start > 0 && isHangul(buffer[start - 1])) {
+                    continue;
+                }
+                if (patternHangulEnd[pattern] && !endsWord(buffer, i + 1)) {
+                    continue;
+                }
+                if (matchCount == matches.length) {
+                    matches = Arrays.copyOf(matches, matchCount * 2);
+                }
+                // 정렬 키: 시작 위치 오름차순, 같은 시작이면 긴 별칭 먼저
+                matches[matchCount++] = (long) start << 32 | (long) (0xFFFF - patternLength[pattern]) << 16 | pattern;
+            }
+        }
+        Arrays.sort(matches, 0, matchCount);
+
+        int[] counts = new int[entries.size()];
+        int[] order = new int[entries.size()];
+        int distinct = 0;
+        int coveredUntil = 0;
+        for (int m = 0; m < matchCount; m++) {
+            int start = (int) (matches[m] >>> 32);
+            int pattern = (int) (matches[m] & 0xFFFF);
+            if (start < coveredUntil) {
+                continue;
+            }
+            coveredUntil = start + patternLength[pattern];
+            int entryId = patternEntry[pattern];
+            if (counts[entryId]++ == 0) {
+                order[distinct++] = entryId;
+            }
+        }
+
+        List<SkillMatch> result = new ArrayList<>(distinct);
+        for (int i = 0; i < distinct; i++) {
+            Entry entry = entries.get(order[i]);
+            result.add(new SkillMatch(entry.keyword(), entry.name(), counts[order[i]]));
+        }
+        // 안정 정렬이므로 동률은 먼저 나온 순서 유지
+        result.sort((a, b) -> Integer.compare(b.count(), a.count()));
+        return result;
+    }
+
+    private int next(int node, char c) {
+        while (node != 0) {
+            int child = child(node, c);
+            if (child >= 0) {
+                return child;
+            }
+            node = fail[node];
+        }
+        return rootNext[c];
+    }
+
+    private int child(int node, char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char edge = edgeChars[mid];
+            if (edge < c) {
+                low = mid + 1;
+            } else if (edge > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 트라이 구성 → 실패/출력 링크 계산(BFS) → 정렬된 간선 배열로 고정
+     */
+    private void compile(List<String> patterns, List<Integer> owners) {
+        if (patterns.size() > 0xFFFF) {
+            throw new IllegalStateException("기술 스킬 별칭이 너무 많습니다: " + patterns.size());
+        }
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        children.add(new HashMap<>());
+        terminals.add(NO_PATTERN);
+
+        patternEntry = new int[patterns.size()];
+        patternLength = new int[patterns.size()];
+        patternBoundaryStart = new boolean[patterns.size()];
+        patternBoundaryEnd = new boolean[patterns.size()];
+        patternHangulStart = new boolean[patterns.size()];
+        patternHangulEnd = new boolean[patterns.size()];
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            patternEntry[p] = owners.get(p);
+            patternLength[p] = pattern.length();
+            patternBoundaryStart[p] = isAsciiLetterOrDigit(pattern.charAt(0));
+            patternBoundaryEnd[p] = isAsciiLetterOrDigit(pattern.charAt(pattern.length() - 1));
+            patternHangulStart[p] = isHangul(pattern.charAt(0));
+            patternHangulEnd[p] = isHangul(pattern.charAt(pattern.length() - 1));
+
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer child = children.get(node).get(pattern.charAt(i));
+                if (child == null) {
+                    child = children.size();
+                    children.get(node).put(pattern.charAt(i), child);
+                    children.add(new HashMap<>());
+                    terminals.add(NO_PATTERN);
+                }
+                node = child;
+            }
+            terminals.set(node, p);
+        }
+
+        int nodeCount = children.size();
+        edgeStart = new int[nodeCount + 1];
+        edgeChars = new char[nodeCount - 1];
+        edgeTargets = new int[nodeCount - 1];
+        output = new int[nodeCount];
+        for (int node = 0, edge = 0; node < nodeCount; node++) {
+            edgeStart[node] = edge;
+            List<Map.Entry<Character, Integer>> sorted = new ArrayList<>(children.get(node).entrySet());
+            sorted.sort(Map.Entry.comparingByKey());
+            for (Map.Entry<Character, Integer> e : sorted) {
+                edgeChars[edge] = e.getKey();
+                edgeTargets[edge++] = e.getValue();
+            }
+            edgeStart[node + 1] = edge;
+            output[node] = terminals.get(node);
+        }
+
+        rootNext = new int[Character.MAX_VALUE + 1];
+        for (int e = edgeStart[0]; e < edgeStart[1]; e++) {
+            rootNext[edgeChars[e]] = edgeTargets[e];
+        }
+
+        fail = new int[nodeCount];
+        outputLink = new int[nodeCount];
+        outputLink[0] = -1;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[0]; e < edgeStart[1]; e++) {
+            int child = edgeTargets[e];
+            fail[child] = 0;
+            outputLink[child] = -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                int child = edgeTargets[e];
+                int f = next(fail[node], edgeChars[e]);
+                fail[child] = f;
+                outputLink[child] = output[f] != NO_PATTERN ? f : outputLink[f];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 필드들을 하나의 버퍼로 정규화 (소문자 변환, 연속 공백 축약, 필드 사이에 구분 문자)
+     */
+    private static char[] normalizeFields(String... texts) {
+        int capacity = 0;
+        for (String text : texts) {
+            if (text != null) {
+                capacity += text.length() + 1;
+            }
+        }
+        char[] buffer = new char[capacity];
+        int length = 0;
+        for (String text : texts) {
+            if (text == null || text.isBlank()) {
+                continue;
+            }
+            boolean space = true;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    if (!space) {
+                        buffer[length++] = ' ';
+                        space = true;
+                    }
+                    continue;
+                }
+                buffer[length++] = Character.toLowerCase(c);
+                space = false;
+            }
+            buffer[length++] = FIELD_SEPARATOR;
+        }
+        return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+    }
+
+    private static String normalize(String text) {
+        return ProfileFingerprint.normalizeText(text);
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return c < 128 && Character.isLetterOrDigit(c);
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '\uAC00' && c <= '\uD7A3';
+    }
+
+    /**
+     * 한글 별칭 뒤에서 단어가 끝나는지 (뒤에 붙은 한글이 없거나 조사 하나)
+     */
+    private static boolean endsWord(char[] buffer, int from) {
+        int end = from;
+        while (end < buffer.length && isHangul(buffer[end])) {
+            end++;
+        }
+        return end == from || PARTICLES.contains(new String(buffer, from, end - from));
+    }
+
+    private record Entry(String keyword, String name) {
+    }
+
+    /**
+     * 추출된 스킬
+     *
+     * @param keyword 정규화된 사전 keyword (질문 은행 태그와 동일)
+     * @param name 표시 이름
+     * @param count 등장 횟수
+     */
+    public record SkillMatch(String keyword, String name, int count) {
+    }
+}
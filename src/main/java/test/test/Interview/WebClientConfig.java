@@ -1,28 +1,153 @@
 package test.test.Interview;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.ssl.SslContextBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.Http11SslContextSpec;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.SslProvider;
 
 import java.time.Duration;
+import java.util.function.Consumer;
 
 /**
  * WebClient 설정 클래스
  * Gemini API 호출을 위한 WebClient 빈 설정
  */
+@Slf4j
 @Configuration
 public class WebClientConfig {
-    
+
+    /**
+     * 최대 커넥션 수 (HTTP/2 사용 시 커넥션당 여러 스트림 다중화)
+     */
+    @Value("${google.gemini.http.max-connections:50}")
+    private int maxConnections;
+
+    /**
+     * 커넥션 획득 대기열 최대 길이 (초과 시 즉시 실패)
+     */
+    @Value("${google.gemini.http.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    /**
+     * 커넥션 획득 대기 타임아웃
+     */
+    @Value("${google.gemini.http.pending-acquire-timeout:10s}")
+    private Duration pendingAcquireTimeout;
+
+    /**
+     * 유휴 커넥션 유지 시간
+     */
+    @Value("${google.gemini.http.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    /**
+     * 커넥션 최대 수명
+     */
+    @Value("${google.gemini.http.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    /**
+     * 백그라운드 유휴/만료 커넥션 정리 주기
+     */
+    @Value("${google.gemini.http.evict-interval:30s}")
+    private Duration evictInterval;
+
+    /**
+     * TCP 연결 타임아웃
+     */
+    @Value("${google.gemini.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    /**
+     * 응답 타임아웃 (요청 전송 후 다음 데이터 수신까지 허용되는 최대 간격)
+     */
+    @Value("${google.gemini.http.response-timeout:60s}")
+    private Duration responseTimeout;
+
+    /**
+     * HTTP/2 협상 사용 여부 (TLS ALPN으로 h2 우선, 미지원 시 HTTP/1.1)
+     */
+    @Value("${google.gemini.http.http2:true}")
+    private boolean http2;
+
+    /**
+     * TLS 세션 캐시 크기 (재연결 시 세션 재개로 핸드셰이크 비용 절감)
+     */
+    @Value("${google.gemini.http.tls-session-cache-size:256}")
+    private long tlsSessionCacheSize;
+
+    /**
+     * TLS 세션 캐시 유지 시간
+     */
+    @Value("${google.gemini.http.tls-session-timeout:1h}")
+    private Duration tlsSessionTimeout;
+
+    /**
+     * 응답 본문 최대 버퍼 크기 (Gemini 응답은 보통 수십 KB이므로 비정상적으로 큰 응답만 차단)
+     */
+    @Value("${google.gemini.http.max-in-memory-size:2MB}")
+    private DataSize maxInMemorySize;
+
+    /**
+     * Gemini 전용 커넥션 풀
+     * reactor.netty.connection.provider.* 메트릭(active/idle/pending 커넥션 수)을 Micrometer로 노출
+     *
+     * @return 설정된 ConnectionProvider
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider geminiConnectionProvider() {
+        log.info("Gemini 커넥션 풀 설정: maxConnections={}, pendingAcquireMaxCount={}, maxIdleTime={}, maxLifeTime={}",
+                maxConnections, pendingAcquireMaxCount, maxIdleTime, maxLifeTime);
+        return ConnectionProvider.builder("gemini")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
+                .build();
+    }
+
     /**
      * Gemini API 호출용 WebClient 빈 생성
-     * 타임아웃 및 기본 설정 적용
-     * 
+     * 타임아웃, 커넥션 풀, HTTP/2 및 기본 설정 적용
+     *
      * @return 설정된 WebClient 인스턴스
      */
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(ConnectionProvider geminiConnectionProvider) {
+        Consumer<SslContextBuilder> sessionReuse = builder -> builder
+                .sessionCacheSize(tlsSessionCacheSize)
+                .sessionTimeout(tlsSessionTimeout.toSeconds());
+
+        HttpClient httpClient = HttpClient.create(geminiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(responseTimeout);
+
+        // GenericSslContextSpec 타입으로 넘겨야 deprecated된 sslContext(ProtocolSslContextSpec) 오버로드를 피함
+        SslProvider.GenericSslContextSpec<SslContextBuilder> sslContextSpec = http2
+                ? Http2SslContextSpec.forClient().configure(sessionReuse)
+                : Http11SslContextSpec.forClient().configure(sessionReuse);
+        httpClient = httpClient
+                .protocol(http2 ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11} : new HttpProtocol[]{HttpProtocol.HTTP11})
+                .secure(spec -> spec.sslContext(sslContextSpec));
+
         return WebClient.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024)) // 10MB
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package test.test.Interview;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebClient 기반 Gemini 클라이언트 (기본값)
+ * WebClientConfig의 공유 WebClient로 논블로킹 호출
+ * 요청 본문은 미리 인코딩된 바이트 배열로 전송 (Map → JSON 변환 없음)
+ * 응답은 Jackson 스트리밍 디코더로 GeminiResponse 레코드에 직접 바인딩 (Map 트리를 만들지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "google.gemini.client.transport", havingValue = "webclient", matchIfMissing = true)
+public class WebClientGeminiClient implements GeminiClient {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<GeminiResponse>> STREAM_EVENT_TYPE = new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+
+    @Value("${google.gemini.api.key}")
+    private String geminiApiKey;
+
+    @Value("${google.gemini.api.url:" + DEFAULT_API_URL + "}")
+    private String geminiApiUrl;
+
+    @Override
+    public Mono<GeminiResponse> generateContent(GeminiPrompt prompt, GeminiGenerationConfig generationConfig) {
+        return webClient.post()
+                .uri(GeminiClient.generateContentUri(geminiApiUrl, geminiApiKey))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(GeminiClient.requestBody(prompt, generationConfig))
+                .retrieve()
+                .bodyToMono(GeminiResponse.class)
+                .onErrorMap(WebClientResponseException.class, e -> new GeminiApiException(
+                        e.getStatusCode().value(), "Gemini API 오류 응답: " + e.getStatusCode(), e));
+    }
+
+    @Override
+    public Flux<GeminiResponse> streamGenerateContent(GeminiPrompt prompt) {
+        return webClient.post()
+                .uri(GeminiClient.streamGenerateContentUri(geminiApiUrl, geminiApiKey))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(GeminiClient.requestBody(prompt, null))
+                .retrieve()
+                .bodyToFlux(STREAM_EVENT_TYPE)
+                .mapNotNull(ServerSentEvent::data)
+                .onErrorMap(WebClientResponseException.class, e -> new GeminiApiException(
+                        e.getStatusCode().value(), "Gemini API 오류 응답: " + e.getStatusCode(), e));
+    }
+}
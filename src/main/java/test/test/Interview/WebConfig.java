@@ -1,5 +1,6 @@
 package test.test.Interview;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.HttpMessageConverter;
@@ -13,9 +14,10 @@ import java.util.List;
 
 /**
  * 웹 설정 클래스
- * UTF-8 인코딩 및 CORS 설정
+ * UTF-8 인코딩 및 CORS 설정 (서블릿/Tomcat 런타임 전용, 리액티브 런타임은 ReactiveWebConfig 참고)
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WebConfig implements WebMvcConfigurer {
 
     /**
@@ -0,0 +1,99 @@
+package test.test.Interview;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AnalysisAdmissionControlTest {
+
+    private AnalysisAdmissionControl control;
+
+    @BeforeEach
+    void setUp() {
+        control = new AnalysisAdmissionControl(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(control, "enabled", true);
+        ReflectionTestUtils.setField(control, "maxInFlight", 10);
+        ReflectionTestUtils.setField(control, "concurrency", 1);
+        ReflectionTestUtils.setField(control, "maxQueueWait", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(control, "ewmaWeight", 0.5);
+        ReflectionTestUtils.setField(control, "initialLatency", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(control, "maxRetryAfter", Duration.ofSeconds(60));
+        control.init();
+    }
+
+    @Test
+    @DisplayName("표본이 없을 때는 초기 소요 시간으로 예상 대기 시간을 계산")
+    void usesInitialLatencyBeforeSamples() {
+        control.acquire();
+
+        assertThatThrownBy(control::acquire)
+                .isInstanceOf(AnalysisRejectedException.class)
+                .hasMessageContaining("예상 대기 시간");
+    }
+
+    @Test
+    @DisplayName("기록된 분석 소요 시간이 짧아지면 대기 중인 요청을 받아들임")
+    void admitsAfterFastAnalyses() {
+        for (int i = 0; i < 5; i++) {
+            control.recordLatency(Duration.ofSeconds(1).toNanos());
+        }
+        control.acquire();
+
+        assertThatNoException().isThrownBy(control::acquire);
+    }
+
+    @Test
+    @DisplayName("진행 중인 같은 프로필 분석에 합류한 요청은 허가를 소비하지 않음")
+    void joinersOfInFlightAnalysisDoNotConsumeCapacity() {
+        SingleFlight<String> inFlight = new SingleFlight<>();
+        Sinks.One<String> upstream = Sinks.one();
+        List<String> results = new ArrayList<>();
+
+        // InterviewService와 같이 단일 실행 작업 안에서 허가를 얻으므로 분석을 시작한 요청만 허가를 보유
+        for (int i = 0; i < 3; i++) {
+            inFlight.join("same", () -> control.admit(upstream.asMono())).subscribe(results::add);
+        }
+        assertThatThrownBy(control::acquire).isInstanceOf(AnalysisRejectedException.class);
+
+        upstream.tryEmitValue("결과");
+
+        assertThat(results).containsExactly("결과", "결과", "결과");
+        assertThatNoException().isThrownBy(control::acquire);
+    }
+
+    @Test
+    @DisplayName("허가를 얻지 못한 작업은 구독하지 않고 AnalysisRejectedException으로 실패")
+    void admitFailsWithoutSubscribingWhenRejected() {
+        control.acquire();
+        AtomicBoolean subscribed = new AtomicBoolean();
+
+        StepVerifier.create(control.admit(Mono.fromCallable(() -> subscribed.getAndSet(true))))
+                .verifyError(AnalysisRejectedException.class);
+        assertThat(subscribed).isFalse();
+    }
+
+    @Test
+    @DisplayName("허가를 여러 번 반납해도 진행 중 수는 한 번만 감소")
+    void releasesOnce() {
+        AnalysisAdmissionControl.Permit permit = control.acquire();
+        permit.release();
+        permit.release();
+        control.acquire();
+
+        assertThatThrownBy(control::acquire).isInstanceOf(AnalysisRejectedException.class);
+    }
+}
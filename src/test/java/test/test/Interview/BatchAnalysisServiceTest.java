@@ -0,0 +1,107 @@
+package test.test.Interview;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchAnalysisServiceTest {
+
+    private final InterviewService interviewService = mock(InterviewService.class);
+
+    private final Validator validator = mock(Validator.class);
+
+    private BatchAnalysisService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BatchAnalysisService(interviewService, new ObjectMapper(), validator);
+        ReflectionTestUtils.setField(service, "concurrency", 2);
+        when(validator.validate(any(InterviewAnalysisRequest.class))).thenReturn(Set.of());
+        when(interviewService.analyzeProfile(any()))
+                .thenAnswer(invocation -> Mono.just(InterviewAnalysisResponse.success(List.of("질문"), "<p>경로</p>")));
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 항목만 실패 결과로 기록하고 나머지는 분석")
+    void validatesEachElement() {
+        InterviewAnalysisRequest valid = request("백엔드");
+        InterviewAnalysisRequest invalid = request("");
+        ConstraintViolation<InterviewAnalysisRequest> violation = violation("position", "비어 있을 수 없습니다");
+        when(validator.validate(invalid)).thenReturn(Set.of(violation));
+
+        List<BatchAnalysisResult> results = service.analyzeAll(Flux.just(valid, invalid))
+                .collectSortedList(Comparator.comparingLong(BatchAnalysisResult::getIndex))
+                .block();
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getResponse().isSuccess()).isTrue();
+        assertThat(results.get(1).getResponse().isSuccess()).isFalse();
+        assertThat(results.get(1).getResponse().getErrorMessage()).contains("position: 비어 있을 수 없습니다");
+        verify(interviewService, never()).analyzeProfile(invalid);
+    }
+
+    @Test
+    @DisplayName("JSON 배열의 null 항목은 해당 위치의 실패 결과로 기록하고 나머지는 분석")
+    void failsNullElementOfList() {
+        List<BatchAnalysisResult> results = service.analyzeAll(Arrays.asList(request("백엔드"), null, request("프론트엔드")))
+                .collectSortedList(Comparator.comparingLong(BatchAnalysisResult::getIndex))
+                .block();
+
+        assertThat(results).extracting(BatchAnalysisResult::getIndex).containsExactly(0L, 1L, 2L);
+        assertThat(results).extracting(result -> result.getResponse().isSuccess())
+                .containsExactly(true, false, true);
+        assertThat(results.get(1).getResponse().getErrorMessage()).isEqualTo("요청이 비어 있습니다");
+    }
+
+    @Test
+    @DisplayName("NDJSON 입력도 항목별로 검증하고 null 항목은 실패 처리")
+    void validatesNdjsonLines() {
+        ConstraintViolation<InterviewAnalysisRequest> violation = violation("position", "형식 오류");
+        when(validator.validate(argThat((InterviewAnalysisRequest r) -> r != null && "x".equals(r.getPosition()))))
+                .thenReturn(Set.of(violation));
+
+        List<BatchAnalysisResult> results = service.analyzeNdjson(Flux.just(
+                        "{\"position\":\"백엔드\"}", "{\"position\":\"x\"}", "null"))
+                .collectSortedList(Comparator.comparingLong(BatchAnalysisResult::getIndex))
+                .block();
+
+        assertThat(results).extracting(result -> result.getResponse().isSuccess())
+                .containsExactly(true, false, false);
+    }
+
+    private static InterviewAnalysisRequest request(String position) {
+        InterviewAnalysisRequest request = new InterviewAnalysisRequest();
+        request.setPosition(position);
+        return request;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConstraintViolation<InterviewAnalysisRequest> violation(String property, String message) {
+        ConstraintViolation<InterviewAnalysisRequest> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn(property);
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn(message);
+        return violation;
+    }
+}
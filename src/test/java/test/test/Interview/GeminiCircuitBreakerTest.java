@@ -0,0 +1,91 @@
+package test.test.Interview;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiCircuitBreakerTest {
+
+    private GeminiCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new GeminiCircuitBreaker(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(circuitBreaker, "enabled", true);
+        ReflectionTestUtils.setField(circuitBreaker, "slidingWindowSize", 4);
+        ReflectionTestUtils.setField(circuitBreaker, "minimumNumberOfCalls", 4);
+        ReflectionTestUtils.setField(circuitBreaker, "failureRateThreshold", 50f);
+        ReflectionTestUtils.setField(circuitBreaker, "slowCallRateThreshold", 100f);
+        ReflectionTestUtils.setField(circuitBreaker, "slowCallDurationThreshold", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(circuitBreaker, "waitDurationInOpenState", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(circuitBreaker, "permittedCallsInHalfOpenState", 1);
+        circuitBreaker.init();
+    }
+
+    @Test
+    @DisplayName("보호 범위 안쪽의 타임아웃은 실패로 집계되어 응답 없는 업스트림에서 OPEN으로 전환")
+    void opensWhenUpstreamHangs() {
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(circuitBreaker.protect(Mono.never().timeout(Duration.ofMillis(10))))
+                    .expectError(TimeoutException.class)
+                    .verify(Duration.ofSeconds(1));
+        }
+
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        StepVerifier.create(circuitBreaker.protect(Mono.just("ok")))
+                .expectError(CallNotPermittedException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("로컬 호출 제한 초과는 성공으로도 실패로도 집계하지 않음")
+    void ignoresLocalRejections() {
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(circuitBreaker.protect(Mono.error(new GeminiRateLimitExceededException("대기 초과"))))
+                    .expectError(GeminiRateLimitExceededException.class)
+                    .verify();
+        }
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(circuitBreaker.protect(Mono.error(new GeminiApiException(503, "unavailable"))))
+                    .expectError(GeminiApiException.class)
+                    .verify();
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(circuitBreaker.protect(Mono.error(new GeminiApiException(503, "unavailable"))))
+                    .expectError(GeminiApiException.class)
+                    .verify();
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("OPEN 상태에서는 감싼 호출을 구독하지 않고 즉시 실패")
+    void rejectsBeforeSubscribingWhenOpen() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(circuitBreaker.protectStream(Flux.error(new GeminiApiException(500, "error"))))
+                    .expectError(GeminiApiException.class)
+                    .verify();
+        }
+
+        StepVerifier.create(circuitBreaker.rejectIfOpen(Mono.fromCallable(subscriptions::incrementAndGet)))
+                .expectError(CallNotPermittedException.class)
+                .verify();
+        assertThat(subscriptions).hasValue(0);
+    }
+}
@@ -0,0 +1,113 @@
+package test.test.Interview;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiRateLimiterTest {
+
+    private GeminiRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new GeminiRateLimiter(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "requestsPerMinute", 10_000);
+        ReflectionTestUtils.setField(limiter, "tokensPerMinute", 10_000_000L);
+        ReflectionTestUtils.setField(limiter, "expectedOutputTokens", 100);
+        ReflectionTestUtils.setField(limiter, "initialConcurrency", 1);
+        ReflectionTestUtils.setField(limiter, "minConcurrency", 1);
+        ReflectionTestUtils.setField(limiter, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(limiter, "backoffRatio", 0.7);
+        ReflectionTestUtils.setField(limiter, "maxWait", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(limiter, "maxWaiters", 2);
+        limiter.init();
+    }
+
+    @Test
+    @DisplayName("호출 구독 전후 어느 시점에 타임아웃으로 취소되어도 권한을 반납")
+    void releasesPermitOnDownstreamTimeout() {
+        StepVerifier.create(limiter.limit(Mono.never(), 10).timeout(Duration.ofMillis(50)))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(2));
+
+        assertThat(limiter.currentInFlight()).isZero();
+        StepVerifier.create(limiter.limit(Mono.just("ok"), 10))
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("대기 중 취소된 요청은 대기열에서 빠지고 권한을 소모하지 않음")
+    void cancelledWaiterLeavesQueue() {
+        Sinks.One<String> first = Sinks.one();
+        Disposable holder = limiter.limit(first.asMono(), 10).subscribe();
+        Disposable waiter = limiter.limit(Mono.just("대기"), 10).subscribe();
+        assertThat(limiter.currentWaiting()).isEqualTo(1);
+
+        waiter.dispose();
+        assertThat(limiter.currentWaiting()).isZero();
+
+        first.tryEmitValue("완료");
+        assertThat(limiter.currentInFlight()).isZero();
+        holder.dispose();
+    }
+
+    @Test
+    @DisplayName("권한이 반납되면 먼저 기다린 요청부터 진행")
+    void grantsInFifoOrder() {
+        Sinks.One<String> first = Sinks.one();
+        List<String> order = new CopyOnWriteArrayList<>();
+        limiter.limit(first.asMono().doOnSubscribe(s -> order.add("첫번째")), 10).subscribe();
+        limiter.limit(Mono.fromRunnable(() -> order.add("두번째")), 10).subscribe();
+        limiter.limit(Mono.fromRunnable(() -> order.add("세번째")), 10).subscribe();
+        assertThat(order).containsExactly("첫번째");
+
+        first.tryEmitValue("완료");
+
+        assertThat(order).containsExactly("첫번째", "두번째", "세번째");
+        assertThat(limiter.currentInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절")
+    void rejectsWhenQueueIsFull() {
+        Sinks.One<String> first = Sinks.one();
+        limiter.limit(first.asMono(), 10).subscribe();
+        limiter.limit(Mono.just("a"), 10).subscribe();
+        limiter.limit(Mono.just("b"), 10).subscribe();
+
+        StepVerifier.create(limiter.limit(Mono.just("c"), 10))
+                .expectError(GeminiRateLimitExceededException.class)
+                .verify(Duration.ofSeconds(1));
+        first.tryEmitValue("완료");
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘기면 거절하고 대기열에서 제거")
+    void expiresAfterMaxWait() {
+        ReflectionTestUtils.setField(limiter, "maxWait", Duration.ofMillis(50));
+        Sinks.One<String> first = Sinks.one();
+        limiter.limit(first.asMono(), 10).subscribe();
+
+        StepVerifier.create(limiter.limit(Mono.just("대기"), 10))
+                .expectError(GeminiRateLimitExceededException.class)
+                .verify(Duration.ofSeconds(2));
+        assertThat(limiter.currentWaiting()).isZero();
+        first.tryEmitValue("완료");
+        assertThat(limiter.currentInFlight()).isZero();
+    }
+}
@@ -0,0 +1,61 @@
+package test.test.Interview;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonByteBufferTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("따옴표, 역슬래시, 제어 문자와 멀티바이트 문자를 JSON 문자열로 이스케이프")
+    void escapesLikeJackson() throws Exception {
+        String text = "따옴표\" 역슬래시\\ 줄바꿈\n탭\t\r\b\f 제어\u0001\u001f 한글 é 😀 끝";
+
+        String escaped = escape(text);
+
+        assertThat(escaped).isEqualTo("따옴표\\\" 역슬래시\\\\ 줄바꿈\\n탭\\t\\r\\b\\f 제어\\u0001\\u001f 한글 é 😀 끝");
+        assertThat(objectMapper.readValue("\"" + escaped + "\"", String.class)).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("짝이 없는 서로게이트는 대체 문자로 기록")
+    void replacesLoneSurrogates() {
+        assertThat(escape("a\uD83Db\uDE00")).isEqualTo("a�b�");
+    }
+
+    @Test
+    @DisplayName("초기 용량보다 긴 입력도 버퍼를 늘려 기록")
+    void growsBuffer() {
+        String text = "가".repeat(1000);
+        JsonByteBuffer buffer = new JsonByteBuffer(1);
+        buffer.writeEscaped(text);
+
+        assertThat(buffer.size()).isEqualTo(3000);
+        assertThat(new String(buffer.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("요청 본문은 프롬프트와 미리 직렬화한 generationConfig를 담은 올바른 JSON")
+    void buildsRequestBody() throws Exception {
+        GeminiPrompt prompt = PromptTemplate.compile("test", "프로필:\n{{profile}}\n\"끝\"")
+                .bind(Map.of(PromptTemplates.PROFILE_SLOT, "백엔드 \"3년\""));
+
+        JsonNode body = objectMapper.readTree(GeminiClient.requestBody(prompt, CombinedAnalysisResult.GENERATION_CONFIG));
+
+        assertThat(body.at("/contents/0/parts/0/text").asText()).isEqualTo("프로필:\n백엔드 \"3년\"\n\"끝\"");
+        assertThat(body.at("/generationConfig/responseMimeType").asText()).isEqualTo("application/json");
+        assertThat(objectMapper.readTree(GeminiClient.requestBody(prompt, null)).has("generationConfig")).isFalse();
+    }
+
+    private static String escape(String text) {
+        return new String(new JsonByteBuffer(16).writeEscaped(text).toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,70 @@
+package test.test.Interview;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownHtmlRendererTest {
+
+    private final MarkdownHtmlRenderer renderer = new MarkdownHtmlRenderer();
+
+    @Test
+    @DisplayName("헤딩은 한 단계 낮추고 문단과 인라인 문법을 변환")
+    void rendersHeadingsAndInline() {
+        String html = renderer.render("# 학습 경로\n**굵게** *기울임* `코드`\n이어지는 줄");
+
+        assertThat(html).isEqualTo("<h2>학습 경로</h2>\n"
+                + "<p><strong>굵게</strong> <em>기울임</em> <code>코드</code> 이어지는 줄</p>\n");
+    }
+
+    @Test
+    @DisplayName("중첩 목록과 시작 번호가 있는 순서 목록")
+    void rendersNestedLists() {
+        String html = renderer.render("3. 셋\n   - 하위\n   - 하위2\n4. 넷\n");
+
+        assertThat(html).isEqualTo("<ol start=\"3\">\n<li>셋\n"
+                + "<ul>\n<li>하위</li>\n<li>하위2</li>\n</ul>\n"
+                + "</li>\n<li>넷</li>\n</ol>\n");
+    }
+
+    @Test
+    @DisplayName("모델 출력의 HTML은 모두 이스케이프")
+    void escapesHtml() {
+        String html = renderer.render("<script>alert('x')</script> & \"인용\"\n```\n<b>코드</b>\n```");
+
+        assertThat(html).isEqualTo("<p>&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; &quot;인용&quot;</p>\n"
+                + "<pre><code>&lt;b&gt;코드&lt;/b&gt;\n</code></pre>\n");
+    }
+
+    @Test
+    @DisplayName("링크는 http/https만 허용하고 주소 안의 짝이 맞는 괄호를 유지")
+    void rendersLinks() {
+        String html = renderer.render("[위키](https://en.wikipedia.org/wiki/Java_(programming_language)) 참고, "
+                + "[나쁨](javascript:alert(1)), [따옴표](https://a.com/?q=\"x\")");
+
+        assertThat(html).isEqualTo("<p><a href=\"https://en.wikipedia.org/wiki/Java_(programming_language)\" "
+                + "target=\"_blank\" rel=\"noopener noreferrer\">위키</a> 참고, 나쁨, "
+                + "<a href=\"https://a.com/?q=&quot;x&quot;\" target=\"_blank\" rel=\"noopener noreferrer\">따옴표</a></p>\n");
+    }
+
+    @Test
+    @DisplayName("조각 단위 입력도 전체 입력과 같은 결과이며 최상위 섹션마다 알림")
+    void streamsChunks() {
+        String markdown = "## 1단계\n- 항목 [링크](https://a.com/(b))\n## 2단계\n문단\n";
+        StringBuilder html = new StringBuilder();
+        List<Integer> sectionStarts = new ArrayList<>();
+        MarkdownHtmlRenderer.Session session = renderer.newSession(html, () -> sectionStarts.add(html.length()));
+        for (int i = 0; i < markdown.length(); i += 4) {
+            session.feed(markdown.substring(i, Math.min(markdown.length(), i + 4)));
+        }
+        session.finish();
+
+        assertThat(html.toString()).isEqualTo(renderer.render(markdown));
+        assertThat(sectionStarts).hasSize(2);
+        assertThat(html.substring(sectionStarts.get(1))).startsWith("<h3>2단계</h3>");
+    }
+}
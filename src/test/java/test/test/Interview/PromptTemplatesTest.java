@@ -0,0 +1,73 @@
+package test.test.Interview;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PromptTemplatesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기본 템플릿은 모두 profile 슬롯만 사용")
+    void loadsBundledTemplates() {
+        PromptTemplates templates = new PromptTemplates(new DefaultResourceLoader(), "classpath:prompts/", Duration.ZERO);
+
+        assertThat(templates.get(PromptTemplates.COMBINED).getSlots()).containsOnly(PromptTemplates.PROFILE_SLOT);
+    }
+
+    @Test
+    @DisplayName("슬롯 이름 오타나 누락된 profile 슬롯은 기동 시 실패")
+    void rejectsWrongSlots() throws IOException {
+        writeTemplates("{{profile}}");
+        Files.writeString(directory.resolve(PromptTemplates.LEARNING_PATH + ".txt"), "프로필: {{profle}}");
+        assertThatThrownBy(this::load)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("profle");
+
+        Files.writeString(directory.resolve(PromptTemplates.LEARNING_PATH + ".txt"), "슬롯 없는 템플릿");
+        assertThatThrownBy(this::load)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(PromptTemplates.LEARNING_PATH);
+    }
+
+    @Test
+    @DisplayName("재로드한 템플릿의 슬롯이 잘못되면 기존 템플릿 유지")
+    void keepsPreviousTemplateOnInvalidReload() throws Exception {
+        writeTemplates("이전: {{profile}}");
+        PromptTemplates templates = new PromptTemplates(new DefaultResourceLoader(), location(), Duration.ofNanos(1));
+
+        Path file = directory.resolve(PromptTemplates.COMBINED + ".txt");
+        Files.writeString(file, "새 템플릿: {{profle}}");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        assertThat(templates.get(PromptTemplates.COMBINED).bind(Map.of(PromptTemplates.PROFILE_SLOT, "백엔드")).text())
+                .isEqualTo("이전: 백엔드");
+    }
+
+    private PromptTemplates load() {
+        return new PromptTemplates(new DefaultResourceLoader(), location(), Duration.ZERO);
+    }
+
+    private String location() {
+        return directory.toUri().toString();
+    }
+
+    private void writeTemplates(String source) throws IOException {
+        for (String name : new String[]{PromptTemplates.INTERVIEW_QUESTIONS, PromptTemplates.LEARNING_PATH, PromptTemplates.COMBINED}) {
+            Files.writeString(directory.resolve(name + ".txt"), source);
+        }
+    }
+}
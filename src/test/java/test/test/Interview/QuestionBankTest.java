@@ -0,0 +1,114 @@
+package test.test.Interview;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionBankTest {
+
+    private static final SkillDictionary DICTIONARY =
+            new SkillDictionary(new DefaultResourceLoader(), "classpath:skills/dictionary.tsv");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("같은 직무, 요청한 스킬, 같은 경력 수준 순으로 가까운 질문을 먼저 제공")
+    void ranksByPositionSkillAndLevel() throws IOException {
+        QuestionBank bank = bank(true, 100,
+                "QUESTION\tgeneral\t\t\t공통 질문",
+                "QUESTION\tbackend\t\t\t백엔드 질문",
+                "QUESTION\tbackend\t\tredis\tRedis 질문",
+                "QUESTION\tbackend\tjunior\tredis\t신입 Redis 질문",
+                "QUESTION\tbackend\tsenior\tredis\t시니어 Redis 질문",
+                "QUESTION\tfrontend\t\treact\t프론트엔드 질문");
+
+        List<String> questions = bank.findQuestions(request("백엔드 개발자", "신입", "Redis"), 10);
+
+        assertThat(questions).containsExactly("신입 Redis 질문", "Redis 질문", "백엔드 질문", "공통 질문");
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 나중에 추가된 항목 우선, limit개까지만 제공")
+    void breaksTiesByRecencyAndHonorsLimit() throws IOException {
+        QuestionBank bank = bank(true, 100,
+                "QUESTION\tbackend\t\t\t첫 번째",
+                "QUESTION\tbackend\t\t\t두 번째",
+                "QUESTION\tbackend\t\t\t세 번째");
+
+        assertThat(bank.findQuestions(request("백엔드", null, null), 2)).containsExactly("세 번째", "두 번째");
+    }
+
+    @Test
+    @DisplayName("학습 경로는 종류별 최고 점수 섹션을 단기/중기/장기/리소스 순으로 조립")
+    void assemblesLearningPathByKind() throws IOException {
+        QuestionBank bank = bank(true, 100,
+                "LONG_TERM\tbackend\t\t\t<h3>장기 목표</h3>\\n<p>백엔드 장기</p>",
+                "SHORT_TERM\tgeneral\t\t\t<h3>단기 목표</h3>\\n<p>공통 단기</p>",
+                "SHORT_TERM\tbackend\t\tredis\t<h3>단기 목표</h3>\\n<p>Redis 단기</p>",
+                "QUESTION\tbackend\t\tredis\tRedis 질문");
+
+        String html = bank.findLearningPath(request("백엔드", null, "Redis")).orElseThrow();
+
+        assertThat(html).contains("Redis 단기").doesNotContain("공통 단기", "Redis 질문");
+        assertThat(html.indexOf("Redis 단기")).isLessThan(html.indexOf("백엔드 장기"));
+    }
+
+    @Test
+    @DisplayName("누적이 꺼져 있으면 생성 결과를 공유 은행에 추가하지 않음")
+    void skipsRecordingWhenDisabled() throws IOException {
+        QuestionBank bank = bank(false, 100, "QUESTION\tgeneral\t\t\t공통 질문");
+
+        bank.record(request("백엔드", null, null), List.of("사용자 이력서가 담긴 질문"), null);
+
+        assertThat(bank.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수에 도달하면 오래된 누적 항목부터 밀어내고 시드는 유지")
+    void evictsOldestRecordedItems() throws IOException {
+        QuestionBank bank = bank(true, 3, "QUESTION\tgeneral\t\t\t시드 질문");
+        InterviewAnalysisRequest request = request("백엔드", null, "Redis");
+
+        bank.record(request, List.of("누적 1", "누적 2"), null);
+        bank.record(request, List.of("누적 2", "누적 3"), null);
+        bank.record(request, List.of("누적 4"), null);
+
+        assertThat(bank.size()).isEqualTo(3);
+        assertThat(bank.findQuestions(request, 10)).containsExactly("누적 4", "누적 3", "시드 질문");
+
+        // 밀려난 문구는 다시 추가할 수 있음
+        bank.record(request, List.of("누적 1"), null);
+        assertThat(bank.findQuestions(request, 10)).containsExactly("누적 1", "누적 4", "시드 질문");
+    }
+
+    private QuestionBank bank(boolean record, int maxItems, String... seedLines) throws IOException {
+        Path seed = directory.resolve("seed.tsv");
+        Files.write(seed, List.of(seedLines));
+        QuestionBank bank = new QuestionBank(new DefaultResourceLoader(), new SimpleMeterRegistry(), DICTIONARY);
+        ReflectionTestUtils.setField(bank, "seedLocation", seed.toUri().toString());
+        ReflectionTestUtils.setField(bank, "storeFile", "");
+        ReflectionTestUtils.setField(bank, "recordEnabled", record);
+        ReflectionTestUtils.setField(bank, "maxItems", maxItems);
+        bank.init();
+        return bank;
+    }
+
+    private static InterviewAnalysisRequest request(String position, String experience, String back) {
+        InterviewAnalysisRequest request = new InterviewAnalysisRequest();
+        request.setPosition(position);
+        request.setExperience(experience);
+        request.setBack(back);
+        return request;
+    }
+}
@@ -0,0 +1,103 @@
+package test.test.Interview;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionExtractorTest {
+
+    private final QuestionExtractor extractor = new QuestionExtractor();
+
+    @Test
+    @DisplayName("여러 번호 형식과 이어지는 줄을 질문 단위로 추출")
+    void extractsNumberedQuestions() {
+        String text = """
+                다음은 면접 질문입니다.
+
+                1. 첫 번째 질문입니다.
+                이어지는 설명입니다.
+                2) 두 번째 질문입니다.
+                **3.** 세 번째 질문입니다.
+                ### 4. 네 번째 질문입니다.
+                Q5. 다섯 번째 질문입니다.
+                """;
+
+        assertThat(extractor.extract(text, 10)).containsExactly(
+                "첫 번째 질문입니다. 이어지는 설명입니다.",
+                "두 번째 질문입니다.",
+                "세 번째 질문입니다.",
+                "네 번째 질문입니다.",
+                "다섯 번째 질문입니다.");
+    }
+
+    @Test
+    @DisplayName("들여쓴 하위 목록은 새 질문이 아닌 상위 질문의 이어지는 줄")
+    void keepsNestedItemsInParentQuestion() {
+        String text = """
+                1. 트랜잭션 격리 수준을 설명해주세요.
+                   1) 세부 항목
+                   2) 또 다른 세부 항목
+                2. 인덱스 설계 경험을 말씀해주세요.
+                """;
+
+        assertThat(extractor.extract(text, 10)).containsExactly(
+                "트랜잭션 격리 수준을 설명해주세요. 1) 세부 항목 2) 또 다른 세부 항목",
+                "인덱스 설계 경험을 말씀해주세요.");
+    }
+
+    @Test
+    @DisplayName("짝이 맞는 강조만 제거하고 식별자와 코드 안의 밑줄은 유지")
+    void stripsOnlyBalancedEmphasis() {
+        String text = """
+                1. 파이썬의 __init__ 메서드와 **생성자**의 차이는?
+                2. **JVM 메모리 구조를 설명해주세요.**
+                3. `a**b` 연산과 __강조__ 표기
+                4. 별표 하나 ** 만 있는 경우
+                """;
+
+        assertThat(extractor.extract(text, 10)).containsExactly(
+                "파이썬의 __init__ 메서드와 생성자의 차이는?",
+                "JVM 메모리 구조를 설명해주세요.",
+                "`a**b` 연산과 강조 표기",
+                "별표 하나 ** 만 있는 경우");
+    }
+
+    @Test
+    @DisplayName("번호 앞에서 열린 강조가 본문 끝에서 닫히는 경우")
+    void handlesEmphasisAroundMarker() {
+        assertThat(extractor.extract("**1. 자기소개를 해주세요.**", 10))
+                .containsExactly("자기소개를 해주세요.");
+    }
+
+    @Test
+    @DisplayName("소수와 번호 없는 숫자는 질문 번호로 보지 않음")
+    void ignoresNonMarkers() {
+        String text = """
+                1.5배 빨라졌습니다.
+                2024 년 회고
+                1번 질문입니다.
+                """;
+
+        assertThat(extractor.extract(text, 10)).containsExactly("질문입니다.");
+    }
+
+    @Test
+    @DisplayName("조각 단위 입력도 전체 입력과 같은 결과이며 최대 개수에서 멈춤")
+    void streamsChunksWithLimit() {
+        String text = "1. 첫 질문\n   1) 하위 항목\n2. 둘째 __질문__\n3. 셋째 질문\n";
+        QuestionExtractor.Session session = extractor.newSession(2);
+        List<String> questions = new ArrayList<>();
+        for (int i = 0; i < text.length(); i += 3) {
+            questions.addAll(session.feed(text.substring(i, Math.min(text.length(), i + 3))));
+        }
+        questions.addAll(session.finish());
+
+        assertThat(questions).containsExactly("첫 질문 1) 하위 항목", "둘째 질문");
+        assertThat(session.isDone()).isTrue();
+        assertThat(extractor.extract(text, 2)).isEqualTo(questions);
+    }
+}
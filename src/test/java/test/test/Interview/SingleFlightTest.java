@@ -0,0 +1,110 @@
+package test.test.Interview;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("같은 키로 진행 중인 작업에는 합류하고 결과를 함께 받음")
+    void mergesConcurrentCallsWithSameKey() {
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+        List<String> results = new ArrayList<>();
+
+        singleFlight.join("a", () -> upstream(upstream, calls)).subscribe(results::add);
+        singleFlight.join("a", () -> upstream(upstream, calls)).subscribe(results::add);
+        upstream.tryEmitValue("결과");
+
+        assertThat(calls).hasValue(1);
+        assertThat(results).containsExactly("결과", "결과");
+    }
+
+    @Test
+    @DisplayName("다른 키는 별도로 실행하고, 끝난 키는 다음 요청에서 새로 시작")
+    void startsNewCallForOtherKeysAndAfterCompletion() {
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.create(singleFlight.join("a", () -> Mono.fromCallable(() -> "a" + calls.incrementAndGet())))
+                .expectNext("a1")
+                .verifyComplete();
+        StepVerifier.create(singleFlight.join("b", () -> Mono.fromCallable(() -> "b" + calls.incrementAndGet())))
+                .expectNext("b2")
+                .verifyComplete();
+        StepVerifier.create(singleFlight.join("a", () -> Mono.fromCallable(() -> "a" + calls.incrementAndGet())))
+                .expectNext("a3")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("실패는 합류한 구독자 모두에게 전달되고 다음 요청은 새로 시작")
+    void sharesErrorAndRetriesAfterward() {
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+        List<Throwable> errors = new ArrayList<>();
+
+        singleFlight.join("a", () -> upstream(upstream, calls)).subscribe(value -> { }, errors::add);
+        singleFlight.join("a", () -> upstream(upstream, calls)).subscribe(value -> { }, errors::add);
+        upstream.tryEmitError(new IllegalStateException("실패"));
+
+        assertThat(errors).hasSize(2).allMatch(error -> error.getMessage().equals("실패"));
+        StepVerifier.create(singleFlight.join("a", () -> Mono.just("재시도")))
+                .expectNext("재시도")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("일부 구독자가 취소해도 나머지를 위해 작업은 계속 진행")
+    void keepsRunningWhileAnySubscriberRemains() {
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+        List<String> results = new ArrayList<>();
+
+        Disposable first = singleFlight.join("a", () -> upstream(upstream, calls)).subscribe();
+        singleFlight.join("a", () -> upstream(upstream, calls)).subscribe(results::add);
+        first.dispose();
+        upstream.tryEmitValue("결과");
+
+        assertThat(calls).hasValue(1);
+        assertThat(results).containsExactly("결과");
+    }
+
+    @Test
+    @DisplayName("모든 구독자가 취소하면 업스트림도 취소되고 다음 요청은 새로 시작")
+    void cancelsUpstreamWhenAllSubscribersCancel() {
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        Disposable first = singleFlight.join("a", () -> upstream(upstream, calls).doOnCancel(() -> cancelled.set(true)))
+                .subscribe();
+        Disposable second = singleFlight.join("a", () -> upstream(upstream, calls)).subscribe();
+        first.dispose();
+        assertThat(cancelled).isFalse();
+        second.dispose();
+
+        assertThat(cancelled).isTrue();
+        StepVerifier.create(singleFlight.join("a", () -> Mono.just("새 작업")))
+                .expectNext("새 작업")
+                .verifyComplete();
+        assertThat(calls).hasValue(1);
+    }
+
+    private static Mono<String> upstream(Sinks.One<String> sink, AtomicInteger calls) {
+        calls.incrementAndGet();
+        return sink.asMono();
+    }
+}
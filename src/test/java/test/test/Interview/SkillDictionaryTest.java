@@ -0,0 +1,69 @@
+package test.test.Interview;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillDictionaryTest {
+
+    private static final SkillDictionary DICTIONARY =
+            new SkillDictionary(new DefaultResourceLoader(), "classpath:skills/dictionary.tsv");
+
+    @Test
+    @DisplayName("한/영 별칭을 keyword로 정규화하고 등장 횟수 내림차순으로 반환")
+    void extractsCanonicalKeywordsWithCounts() {
+        List<SkillDictionary.SkillMatch> matches = DICTIONARY.extract(
+                "Spring Boot와 레디스를 사용", "스프링부트로 API 서버를 만들고 redis 캐시 적용, Java 17");
+
+        assertThat(matches).extracting(SkillDictionary.SkillMatch::keyword)
+                .containsExactly("spring boot", "redis", "java");
+        assertThat(matches).extracting(SkillDictionary.SkillMatch::count).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("영문 별칭은 단어 경계에서만 일치하고 겹치면 가장 긴 별칭 하나만 인정")
+    void matchesAsciiAliasesOnWordBoundaries() {
+        assertThat(keywords("JavaScript와 TypeScript")).containsExactly("javascript", "typescript");
+        assertThat(keywords("spring boot, spring webflux")).containsExactly("spring boot", "spring webflux");
+        assertThat(keywords("mysqldump")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한글 별칭은 단어 앞에서 시작하고 뒤에는 조사만 붙을 때 일치")
+    void matchesHangulAliasesOnWordBoundaries() {
+        assertThat(keywords("코틀린으로 작성하고 파이썬은 스크립트에만")).containsExactly("kotlin", "python");
+        assertThat(keywords("리액트네이티브")).containsExactly("react native");
+        assertThat(keywords("일러스트레이터", "카프카스크", "자바칩")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일반 단어와 겹치는 별칭은 본문에서 찾지 않음")
+    void ignoresAmbiguousAliasesInText() {
+        assertThat(keywords("일러스트레이터", "자바스크립트 클로저", "스칼라와 벡터", "엑셀러레이터", "I want to go deeper"))
+                .containsExactly("javascript");
+        assertThat(keywords("러스트 언어로 CLI 도구 개발", "golang")).containsExactly("rust", "go");
+    }
+
+    @Test
+    @DisplayName("정확 일치 전용 별칭도 단일 스킬 문자열로는 keyword로 변환")
+    void resolvesExactOnlyAliases() {
+        assertThat(DICTIONARY.canonical("Go")).isEqualTo("go");
+        assertThat(DICTIONARY.canonical("스칼라")).isEqualTo("scala");
+        assertThat(DICTIONARY.canonical("스프링부트")).isEqualTo("spring boot");
+        assertThat(DICTIONARY.canonical("없는 스킬")).isNull();
+    }
+
+    @Test
+    @DisplayName("필드 경계를 넘어서는 일치는 없음")
+    void doesNotMatchAcrossFields() {
+        assertThat(keywords("spring", "boot")).containsExactly("spring");
+    }
+
+    private static List<String> keywords(String... texts) {
+        return DICTIONARY.extract(texts).stream().map(SkillDictionary.SkillMatch::keyword).toList();
+    }
+}